@@ -13,9 +13,8 @@ import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalUnit;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Function;
 
 import de.bund.bva.isyfact.datetime.format.InFormat;
@@ -372,41 +371,24 @@ public class Zeitraum implements Serializable {
     }
 
     private static Object parseAnfang(String textAnfang) {
-        List<Object> anfang = new ArrayList<>();
-
-        anfang.add(tryParse(InFormat::parseToZonedDateTime, textAnfang));
-        anfang.add(tryParse(InFormat::parseToOffsetDateTime, textAnfang));
-        anfang.add(tryParse(InFormat::parseToLocalDateTime, textAnfang));
-        anfang.add(tryParse(InFormat::parseToLocalDate, textAnfang));
-        anfang.add(tryParse(InFormat::parseToOffsetTime, textAnfang));
-        anfang.add(tryParse(InFormat::parseToLocalTime, textAnfang));
-
-        return anfang.stream().filter(Objects::nonNull).findFirst()
+        return tryParseDatumZeit(textAnfang)
             .orElseThrow(() -> new DateTimeParseException("Der Anfang des Zeitraums konnte nicht ermittelt werden.", textAnfang, 0));
     }
 
     private static Object parseEnde(String textEndeOderDauer) {
-        List<Object> endeOderDauer = new ArrayList<>();
-
-        endeOderDauer.add(tryParse(InFormat::parseToZonedDateTime, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToOffsetDateTime, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToLocalDateTime, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToLocalDate, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToOffsetTime, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToLocalTime, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToDuration, textEndeOderDauer));
-        endeOderDauer.add(tryParse(InFormat::parseToPeriod, textEndeOderDauer));
-
-        return endeOderDauer.stream().filter(Objects::nonNull).findFirst()
+        return tryParseDatumZeit(textEndeOderDauer)
+            .or(() -> InFormat.tryParseToDuration(textEndeOderDauer))
+            .or(() -> InFormat.tryParseToPeriod(textEndeOderDauer))
             .orElseThrow(() -> new DateTimeParseException("Das Ende oder die Dauer des Zeitraums konnte nicht ermittelt werden.", textEndeOderDauer, 0));
     }
 
-    private static <T> T tryParse(Function<String, T> parseFunction, String text) {
-        try {
-            return parseFunction.apply(text);
-        } catch (DateTimeParseException e) {
-            return null;
-        }
+    private static Optional<Object> tryParseDatumZeit(String text) {
+        return InFormat.tryParseToZonedDateTime(text).<Object>map(Function.identity())
+            .or(() -> InFormat.tryParseToOffsetDateTime(text))
+            .or(() -> InFormat.tryParseToLocalDateTime(text))
+            .or(() -> InFormat.tryParseToLocalDate(text))
+            .or(() -> InFormat.tryParseToOffsetTime(text))
+            .or(() -> InFormat.tryParseToLocalTime(text));
     }
 
     private static String[] getZeitraumAnfangUndEndeOderDauerString(String text) {
@@ -0,0 +1,166 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Sicht auf ASCII-kodierte Bytes als {@link CharSequence}, ohne die Bytes zu kopieren oder zu dekodieren.
+ * <p>
+ * Jedes Byte entspricht genau einem Zeichen. Bytes außerhalb von ASCII (z.B. Teile von UTF-8 Sequenzen)
+ * werden als ISO-8859-1 gelesen und sind damit in keinem Eingabeformat von {@link InFormat} gültig.
+ * Positionen, z.B. der Fehlerindex einer {@link java.time.format.DateTimeParseException}, sind daher immer
+ * Byte-Positionen.
+ */
+abstract class AsciiZeichenfolge implements CharSequence {
+
+    /**
+     * Liest acht Bytes eines Byte-Arrays als {@code long} in Little-Endian-Reihenfolge.
+     */
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+        ByteOrder.LITTLE_ENDIAN);
+
+    /**
+     * Erstellt eine Sicht auf einen Bereich eines Byte-Arrays.
+     *
+     * @param bytes
+     *     die Bytes, nicht null
+     * @param offset
+     *     Anfang des Bereichs
+     * @param laenge
+     *     Länge des Bereichs
+     * @return die Sicht auf den Bereich
+     */
+    static AsciiZeichenfolge von(byte[] bytes, int offset, int laenge) {
+        Objects.checkFromIndexSize(offset, laenge, bytes.length);
+        return new ArrayZeichenfolge(bytes, offset, laenge);
+    }
+
+    /**
+     * Erstellt eine Sicht auf die verbleibenden Bytes (Position bis Limit) eines {@link ByteBuffer}. Die
+     * Position des Puffers wird nicht verändert.
+     *
+     * @param puffer
+     *     der Puffer, nicht null
+     * @return die Sicht auf die verbleibenden Bytes
+     */
+    static AsciiZeichenfolge von(ByteBuffer puffer) {
+        if (puffer.hasArray()) {
+            return new ArrayZeichenfolge(puffer.array(), puffer.arrayOffset() + puffer.position(),
+                puffer.remaining());
+        }
+        return new PufferZeichenfolge(puffer, puffer.position(), puffer.remaining());
+    }
+
+    /**
+     * Liest die acht Zeichen ab {@code index} mit einem einzigen Zugriff als {@code long}. Das Zeichen an
+     * {@code index} steht in den niedrigsten acht Bits.
+     *
+     * @param index
+     *     Position des ersten Zeichens
+     * @return die acht Zeichen
+     * @throws IndexOutOfBoundsException
+     *     wenn ab {@code index} keine acht Zeichen vorhanden sind
+     */
+    abstract long achtZeichen(int index);
+
+    /**
+     * Sicht auf einen Bereich eines Byte-Arrays.
+     */
+    private static final class ArrayZeichenfolge extends AsciiZeichenfolge {
+
+        private final byte[] bytes;
+
+        private final int offset;
+
+        private final int laenge;
+
+        private ArrayZeichenfolge(byte[] bytes, int offset, int laenge) {
+            this.bytes = bytes;
+            this.offset = offset;
+            this.laenge = laenge;
+        }
+
+        @Override
+        public int length() {
+            return laenge;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, laenge);
+            return (char) (bytes[offset + index] & 0xFF);
+        }
+
+        @Override
+        long achtZeichen(int index) {
+            Objects.checkFromIndexSize(index, 8, laenge);
+            return (long) LONG_LE.get(bytes, offset + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, laenge);
+            return new ArrayZeichenfolge(bytes, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, offset, laenge, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Sicht auf einen Bereich eines {@link ByteBuffer} ohne zugängliches Array, z.B. eines Direct Buffer.
+     */
+    private static final class PufferZeichenfolge extends AsciiZeichenfolge {
+
+        private final ByteBuffer puffer;
+
+        private final int offset;
+
+        private final int laenge;
+
+        private PufferZeichenfolge(ByteBuffer puffer, int offset, int laenge) {
+            this.puffer = puffer;
+            this.offset = offset;
+            this.laenge = laenge;
+        }
+
+        @Override
+        public int length() {
+            return laenge;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, laenge);
+            return (char) (puffer.get(offset + index) & 0xFF);
+        }
+
+        @Override
+        long achtZeichen(int index) {
+            Objects.checkFromIndexSize(index, 8, laenge);
+            long zeichen = puffer.getLong(offset + index);
+            return puffer.order() == ByteOrder.LITTLE_ENDIAN ? zeichen : Long.reverseBytes(zeichen);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, laenge);
+            return new PufferZeichenfolge(puffer, offset + start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            byte[] bytes = new byte[laenge];
+            for (int i = 0; i < laenge; i++) {
+                bytes[i] = puffer.get(offset + i);
+            }
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
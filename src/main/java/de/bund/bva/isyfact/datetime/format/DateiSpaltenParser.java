@@ -0,0 +1,411 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+/**
+ * Klasse zum Parsen einer Spalte von Datums- und Zeitwerten direkt aus einer sehr großen Datei mit durch ein
+ * Trennzeichen getrennten Spalten (z.B. CSV).
+ * <p>
+ * Die Datei wird in Abschnitte aufgeteilt, die an Zeilengrenzen enden. Jeder Abschnitt wird mit
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)} in den Speicher abgebildet und auf einem
+ * {@link Executor} geparst, ohne die Bytes in Strings zu dekodieren. Die Datei muss ASCII-kodiert sein (siehe
+ * {@link AsciiZeichenfolge}), Zeilen enden mit {@code \n} oder {@code \r\n}. Anführungszeichen werden nicht
+ * gesondert behandelt.
+ * <p>
+ * Die Eingabeformate und der Status je Zeile entsprechen denen von {@link SpaltenParser}. Zeilen, die die
+ * Spalte nicht enthalten, leere Zeilen und Kopfzeilen gelten als {@link SpaltenParser#UNGUELTIG}. Ein
+ * Zeilenumbruch am Ende der Datei erzeugt keine weitere Zeile.
+ */
+public abstract class DateiSpaltenParser {
+
+    /**
+     * Ungefähre Größe eines Abschnitts in Bytes.
+     */
+    private static final long ABSCHNITT_GROESSE = 32L << 20;
+
+    /**
+     * Größe des Puffers zum Suchen der Zeilengrenzen.
+     */
+    private static final int SUCH_PUFFER_GROESSE = 8192;
+
+    /**
+     * Maximale Anzahl Zeilen im Ergebnis von {@link #parse(Path, char, int, Spaltentyp, Executor)}.
+     */
+    private static final int MAX_ZEILEN = Integer.MAX_VALUE - 8;
+
+    /**
+     * Typ der Werte einer Spalte und ihre Darstellung als {@code long}.
+     */
+    public enum Spaltentyp {
+
+        /**
+         * Datum wie {@link InFormat#parseToLocalDate(String)}, als Tage seit der Epoche.
+         */
+        DATUM {
+            @Override
+            long parse(CharSequence text, int von, int bis, byte[] status, int zeile) {
+                return SpaltenParser.epochTag(text, von, bis, status, zeile);
+            }
+        },
+
+        /**
+         * Zeit wie {@link InFormat#parseToLocalTime(String)}, als Nanosekunde des Tages.
+         */
+        ZEIT {
+            @Override
+            long parse(CharSequence text, int von, int bis, byte[] status, int zeile) {
+                return SpaltenParser.nanoDesTages(text, von, bis, status, zeile);
+            }
+        },
+
+        /**
+         * Datum/Zeit wie {@link InFormat#parseToLocalDateTime(String)}, als Nanosekunden seit der Epoche ohne
+         * Berücksichtigung des Offsets.
+         */
+        DATUM_ZEIT {
+            @Override
+            long parse(CharSequence text, int von, int bis, byte[] status, int zeile) {
+                return SpaltenParser.epochNanos(text, von, bis, status, zeile, false);
+            }
+        },
+
+        /**
+         * Datum/Zeit mit Offset oder Zeitzone wie {@link InFormat#parseToZonedDateTime(String)}, als
+         * Nanosekunden seit der Epoche.
+         */
+        DATUM_ZEIT_ZONE {
+            @Override
+            long parse(CharSequence text, int von, int bis, byte[] status, int zeile) {
+                return SpaltenParser.epochNanos(text, von, bis, status, zeile, true);
+            }
+        };
+
+        abstract long parse(CharSequence text, int von, int bis, byte[] status, int zeile);
+    }
+
+    /**
+     * Die geparsten Werte einer Spalte und der Status je Zeile.
+     */
+    public static final class Spaltenwerte {
+
+        private final long[] werte;
+
+        private final byte[] status;
+
+        private Spaltenwerte(long[] werte, byte[] status) {
+            this.werte = werte;
+            this.status = status;
+        }
+
+        /**
+         * @return die Werte je Zeile in der Darstellung des {@link Spaltentyp}, 0 für ungültige Zeilen
+         */
+        public long[] getWerte() {
+            return werte;
+        }
+
+        /**
+         * @return der Status je Zeile
+         */
+        public byte[] getStatus() {
+            return status;
+        }
+
+        /**
+         * @return die Anzahl Zeilen
+         */
+        public int getAnzahlZeilen() {
+            return werte.length;
+        }
+    }
+
+    /**
+     * Parst eine Spalte aller Zeilen einer Datei.
+     *
+     * @param datei
+     *     die Datei, nicht null
+     * @param trennzeichen
+     *     das Zeichen zwischen zwei Spalten, ein ASCII-Zeichen
+     * @param spalte
+     *     der Index der Spalte, beginnend bei 0
+     * @param typ
+     *     der Typ der Werte in der Spalte, nicht null
+     * @param executor
+     *     führt die Abschnitte aus, nicht null
+     * @return die Werte und der Status je Zeile
+     * @throws IOException
+     *     wenn die Datei nicht gelesen werden kann
+     * @throws IllegalStateException
+     *     wenn die Datei mehr Zeilen hat, als in einem Array Platz finden
+     */
+    public static Spaltenwerte parse(Path datei, char trennzeichen, int spalte, Spaltentyp typ,
+        Executor executor) throws IOException {
+        return parse(datei, trennzeichen, spalte, typ, executor, ABSCHNITT_GROESSE);
+    }
+
+    static Spaltenwerte parse(Path datei, char trennzeichen, int spalte, Spaltentyp typ, Executor executor,
+        long abschnittGroesse) throws IOException {
+        pruefe(trennzeichen, spalte, typ);
+        Spaltenwerte[] teile = parseAbschnitte(datei, abschnittGroesse, executor,
+            puffer -> parseAbschnitt(puffer, trennzeichen, spalte, typ), Spaltenwerte[]::new);
+
+        long anzahl = 0;
+        for (Spaltenwerte teil : teile) {
+            anzahl += teil.getAnzahlZeilen();
+        }
+        if (anzahl > MAX_ZEILEN) {
+            throw new IllegalStateException("Die Datei hat mehr als " + MAX_ZEILEN + " Zeilen.");
+        }
+
+        long[] werte = new long[(int) anzahl];
+        byte[] status = new byte[(int) anzahl];
+        int position = 0;
+        for (Spaltenwerte teil : teile) {
+            System.arraycopy(teil.werte, 0, werte, position, teil.werte.length);
+            System.arraycopy(teil.status, 0, status, position, teil.status.length);
+            position += teil.werte.length;
+        }
+        return new Spaltenwerte(werte, status);
+    }
+
+    /**
+     * Zählt die Zeilen einer Datei je Status einer Spalte, ohne die Werte zu speichern.
+     *
+     * @param datei
+     *     die Datei, nicht null
+     * @param trennzeichen
+     *     das Zeichen zwischen zwei Spalten, ein ASCII-Zeichen
+     * @param spalte
+     *     der Index der Spalte, beginnend bei 0
+     * @param typ
+     *     der Typ der Werte in der Spalte, nicht null
+     * @param executor
+     *     führt die Abschnitte aus, nicht null
+     * @return die Anzahl Zeilen je Status, z.B. {@code zaehle(...)[SpaltenParser.GUELTIG]}
+     * @throws IOException
+     *     wenn die Datei nicht gelesen werden kann
+     */
+    public static long[] zaehle(Path datei, char trennzeichen, int spalte, Spaltentyp typ, Executor executor)
+        throws IOException {
+        return zaehle(datei, trennzeichen, spalte, typ, executor, ABSCHNITT_GROESSE);
+    }
+
+    static long[] zaehle(Path datei, char trennzeichen, int spalte, Spaltentyp typ, Executor executor,
+        long abschnittGroesse) throws IOException {
+        pruefe(trennzeichen, spalte, typ);
+        long[][] teile = parseAbschnitte(datei, abschnittGroesse, executor,
+            puffer -> zaehleAbschnitt(puffer, trennzeichen, spalte, typ), long[][]::new);
+
+        long[] anzahl = new long[SpaltenParser.AUSSERHALB_WERTEBEREICH + 1];
+        for (long[] teil : teile) {
+            for (int s = 0; s < anzahl.length; s++) {
+                anzahl[s] += teil[s];
+            }
+        }
+        return anzahl;
+    }
+
+    /**
+     * Teilt die Datei in Abschnitte an Zeilengrenzen auf, bildet sie in den Speicher ab und verarbeitet sie auf
+     * dem {@code executor}.
+     *
+     * @return die Ergebnisse der Abschnitte in der Reihenfolge der Datei
+     */
+    private static <T> T[] parseAbschnitte(Path datei, long abschnittGroesse, Executor executor,
+        Function<ByteBuffer, T> abschnitt, IntFunction<T[]> erzeuger) throws IOException {
+        Objects.requireNonNull(executor);
+
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            long[] grenzen = grenzen(kanal, abschnittGroesse);
+            int abschnitte = grenzen.length - 1;
+            T[] ergebnis = erzeuger.apply(abschnitte);
+            if (abschnitte == 1) {
+                ergebnis[0] = abschnitt.apply(map(kanal, grenzen[0], grenzen[1]));
+                return ergebnis;
+            }
+
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[abschnitte];
+            for (int a = 0; a < abschnitte; a++) {
+                int index = a;
+                futures[a] = CompletableFuture.runAsync(() -> {
+                    try {
+                        ergebnis[index] = abschnitt.apply(map(kanal, grenzen[index], grenzen[index + 1]));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, executor);
+            }
+            try {
+                CompletableFuture.allOf(futures).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof UncheckedIOException) {
+                    throw ((UncheckedIOException) e.getCause()).getCause();
+                }
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            return ergebnis;
+        }
+    }
+
+    private static void pruefe(char trennzeichen, int spalte, Spaltentyp typ) {
+        Objects.requireNonNull(typ);
+        if (trennzeichen > 0x7F || trennzeichen == '\n' || trennzeichen == '\r') {
+            throw new IllegalArgumentException(
+                "Das Trennzeichen muss ein ASCII-Zeichen außer einem Zeilenumbruch sein.");
+        }
+        if (spalte < 0) {
+            throw new IllegalArgumentException("Der Index der Spalte darf nicht negativ sein.");
+        }
+    }
+
+    /**
+     * Bestimmt die Grenzen der Abschnitte. Jeder Abschnitt außer dem letzten endet direkt nach einem
+     * {@code \n}. Die Grenzen sind aufsteigend, die erste ist 0 und die letzte die Größe der Datei.
+     */
+    static long[] grenzen(FileChannel kanal, long abschnittGroesse) throws IOException {
+        long groesse = kanal.size();
+        int abschnitte = (int) Math.max(1, Math.min((groesse + abschnittGroesse - 1) / abschnittGroesse,
+            Integer.MAX_VALUE - 1));
+
+        long[] grenzen = new long[abschnitte + 1];
+        int anzahl = 1;
+        ByteBuffer puffer = ByteBuffer.allocate(SUCH_PUFFER_GROESSE);
+        for (int a = 1; a < abschnitte; a++) {
+            long grenze = Math.max(groesse * a / abschnitte, grenzen[anzahl - 1]);
+            grenze = naechsteZeile(kanal, grenze, groesse, puffer);
+            if (grenze > grenzen[anzahl - 1] && grenze < groesse) {
+                grenzen[anzahl++] = grenze;
+            }
+        }
+        grenzen[anzahl++] = groesse;
+        return anzahl == grenzen.length ? grenzen : Arrays.copyOf(grenzen, anzahl);
+    }
+
+    /**
+     * Liefert die Position direkt nach dem ersten {@code \n} ab {@code position - 1}, d.h. {@code position},
+     * wenn dort bereits eine Zeile beginnt.
+     */
+    private static long naechsteZeile(FileChannel kanal, long position, long groesse, ByteBuffer puffer)
+        throws IOException {
+        long suche = position - 1;
+        while (suche < groesse) {
+            puffer.clear();
+            int gelesen = kanal.read(puffer, suche);
+            if (gelesen <= 0) {
+                break;
+            }
+            for (int i = 0; i < gelesen; i++) {
+                if (puffer.get(i) == '\n') {
+                    return suche + i + 1;
+                }
+            }
+            suche += gelesen;
+        }
+        return groesse;
+    }
+
+    /**
+     * Bildet den Abschnitt {@code von} bis {@code bis} der Datei in den Speicher ab. Ein einzelner
+     * {@link java.nio.MappedByteBuffer} umfasst höchstens {@link Integer#MAX_VALUE} Bytes.
+     */
+    private static ByteBuffer map(FileChannel kanal, long von, long bis) throws IOException {
+        if (bis - von > Integer.MAX_VALUE) {
+            throw new IOException("Die Datei enthält eine Zeile ab Position " + von + ", die länger als "
+                + Integer.MAX_VALUE + " Bytes ist.");
+        }
+        return kanal.map(FileChannel.MapMode.READ_ONLY, von, bis - von);
+    }
+
+    private static Spaltenwerte parseAbschnitt(ByteBuffer puffer, char trennzeichen, int spalte,
+        Spaltentyp typ) {
+        CharSequence text = AsciiZeichenfolge.von(puffer);
+        int laenge = puffer.limit();
+        long[] werte = new long[Math.max(16, laenge / 32)];
+        byte[] status = new byte[werte.length];
+        int zeile = 0;
+
+        int anfang = 0;
+        while (anfang < laenge) {
+            int ende = zeilenEnde(puffer, anfang, laenge);
+            if (zeile == werte.length) {
+                int neueLaenge = (int) Math.min(2L * werte.length, MAX_ZEILEN);
+                werte = Arrays.copyOf(werte, neueLaenge);
+                status = Arrays.copyOf(status, neueLaenge);
+            }
+            werte[zeile] = parseZeile(puffer, text, anfang, ende, trennzeichen, spalte, typ, status, zeile);
+            zeile++;
+            anfang = ende + 1;
+        }
+        return new Spaltenwerte(Arrays.copyOf(werte, zeile), Arrays.copyOf(status, zeile));
+    }
+
+    private static long[] zaehleAbschnitt(ByteBuffer puffer, char trennzeichen, int spalte, Spaltentyp typ) {
+        CharSequence text = AsciiZeichenfolge.von(puffer);
+        int laenge = puffer.limit();
+        long[] anzahl = new long[SpaltenParser.AUSSERHALB_WERTEBEREICH + 1];
+        byte[] status = new byte[1];
+
+        int anfang = 0;
+        while (anfang < laenge) {
+            int ende = zeilenEnde(puffer, anfang, laenge);
+            parseZeile(puffer, text, anfang, ende, trennzeichen, spalte, typ, status, 0);
+            anzahl[status[0]]++;
+            anfang = ende + 1;
+        }
+        return anzahl;
+    }
+
+    /**
+     * Liefert die Position des {@code \n} am Ende der Zeile bzw. {@code laenge} für die letzte Zeile ohne
+     * Zeilenumbruch.
+     */
+    private static int zeilenEnde(ByteBuffer puffer, int anfang, int laenge) {
+        int ende = anfang;
+        while (ende < laenge && puffer.get(ende) != '\n') {
+            ende++;
+        }
+        return ende;
+    }
+
+    /**
+     * Sucht die Spalte in der Zeile {@code anfang} bis {@code ende} (ohne Zeilenumbruch) und parst sie.
+     */
+    private static long parseZeile(ByteBuffer puffer, CharSequence text, int anfang, int ende,
+        char trennzeichen, int spalte, Spaltentyp typ, byte[] status, int zeile) {
+        if (ende > anfang && puffer.get(ende - 1) == '\r') {
+            ende--;
+        }
+
+        int von = anfang;
+        for (int s = 0; s < spalte; s++) {
+            while (von < ende && puffer.get(von) != trennzeichen) {
+                von++;
+            }
+            if (von == ende) {
+                status[zeile] = SpaltenParser.UNGUELTIG;
+                return 0;
+            }
+            von++;
+        }
+        int bis = von;
+        while (bis < ende && puffer.get(bis) != trennzeichen) {
+            bis++;
+        }
+        return typ.parse(text, von, bis, status, zeile);
+    }
+}
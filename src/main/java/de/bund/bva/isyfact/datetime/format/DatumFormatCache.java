@@ -0,0 +1,173 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+import de.bund.bva.isyfact.datetime.util.DateTimeUtil;
+
+/**
+ * Formatiert Datumswerte im Format {@link OutFormat#DATUM} oder {@link DateTimeFormatter#ISO_LOCAL_DATE} und
+ * speichert die Ergebnisse für einen festen Zeitraum zwischen.
+ * <p>
+ * Der Zwischenspeicher ist ein Array mit einem Eintrag für jeden Tag des Zeitraums, der über den Epochentag
+ * adressiert wird. Ein Datum im Zeitraum wird beim ersten Aufruf formatiert, danach kostet es nur noch einen
+ * Zugriff auf das Array. Datumswerte außerhalb des Zeitraums werden bei jedem Aufruf formatiert. Der Speicher
+ * ist durch die Länge des Zeitraums begrenzt, für ±100 Jahre sind es etwa 73.000 Einträge.
+ * <p>
+ * Die Klasse ist thread-sicher. Formatieren zwei Threads gleichzeitig dasselbe Datum, wird der gleiche
+ * String zweimal erzeugt und einer von beiden gespeichert.
+ */
+public final class DatumFormatCache {
+
+    /**
+     * Die maximale Länge des Zeitraums in Jahren.
+     */
+    public static final int MAX_JAHRE = 1000;
+
+    /**
+     * Die Anzahl der Jahre vor und nach dem heutigen Datum im Standard-Zeitraum.
+     */
+    private static final int STANDARD_JAHRE = 100;
+
+    private final DateTimeFormatter format;
+
+    private final LocalDate anfang;
+
+    private final LocalDate ende;
+
+    private final long anfangEpochentag;
+
+    /**
+     * Die formatierten Datumswerte je Tag ab {@link #anfang}, null, solange ein Tag noch nicht formatiert
+     * wurde.
+     */
+    private final String[] eintraege;
+
+    private DatumFormatCache(DateTimeFormatter format, LocalDate anfang, LocalDate ende) {
+        this.format = format;
+        this.anfang = anfang;
+        this.ende = ende;
+        this.anfangEpochentag = anfang.toEpochDay();
+        this.eintraege = new String[(int) (ende.toEpochDay() - anfangEpochentag + 1)];
+    }
+
+    /**
+     * Erstellt einen Cache für das Format {@link OutFormat#DATUM} über 100 Jahre vor und nach dem heutigen
+     * Datum laut {@link DateTimeUtil#localDateNow()}.
+     *
+     * @return der Cache, nicht null
+     */
+    public static DatumFormatCache fuerDatum() {
+        return of(OutFormat.DATUM, STANDARD_JAHRE);
+    }
+
+    /**
+     * Erstellt einen Cache für das Format {@link DateTimeFormatter#ISO_LOCAL_DATE} über 100 Jahre vor und
+     * nach dem heutigen Datum laut {@link DateTimeUtil#localDateNow()}.
+     *
+     * @return der Cache, nicht null
+     */
+    public static DatumFormatCache fuerIsoDatum() {
+        return of(DateTimeFormatter.ISO_LOCAL_DATE, STANDARD_JAHRE);
+    }
+
+    /**
+     * Erstellt einen Cache über eine Anzahl von Jahren vor und nach dem heutigen Datum laut
+     * {@link DateTimeUtil#localDateNow()}.
+     *
+     * @param format
+     *     {@link OutFormat#DATUM} oder {@link DateTimeFormatter#ISO_LOCAL_DATE}
+     * @param jahre
+     *     die Anzahl der Jahre vor und nach dem heutigen Datum, höchstens {@link #MAX_JAHRE} / 2
+     * @return der Cache, nicht null
+     * @throws IllegalArgumentException
+     *     wenn das Format nicht unterstützt wird oder die Anzahl der Jahre negativ oder zu groß ist
+     */
+    public static DatumFormatCache of(DateTimeFormatter format, int jahre) {
+        if (jahre < 0 || jahre > MAX_JAHRE / 2) {
+            throw new IllegalArgumentException("Ungültige Anzahl von Jahren: " + jahre);
+        }
+        LocalDate heute = DateTimeUtil.localDateNow();
+        return of(format, heute.minusYears(jahre), heute.plusYears(jahre));
+    }
+
+    /**
+     * Erstellt einen Cache über einen Zeitraum.
+     *
+     * @param format
+     *     {@link OutFormat#DATUM} oder {@link DateTimeFormatter#ISO_LOCAL_DATE}
+     * @param anfang
+     *     der erste Tag des Zeitraums, nicht null
+     * @param ende
+     *     der letzte Tag des Zeitraums, nicht null
+     * @return der Cache, nicht null
+     * @throws IllegalArgumentException
+     *     wenn das Format nicht unterstützt wird, der Anfang nach dem Ende liegt oder der Zeitraum länger als
+     *     {@link #MAX_JAHRE} Jahre ist
+     */
+    public static DatumFormatCache of(DateTimeFormatter format, LocalDate anfang, LocalDate ende) {
+        Objects.requireNonNull(anfang);
+        Objects.requireNonNull(ende);
+
+        if (format != OutFormat.DATUM && format != DateTimeFormatter.ISO_LOCAL_DATE) {
+            throw new IllegalArgumentException("Nicht unterstütztes Format: " + format);
+        }
+        if (anfang.isAfter(ende)) {
+            throw new IllegalArgumentException("Anfang " + anfang + " liegt nach dem Ende " + ende);
+        }
+        if (anfang.plusYears(MAX_JAHRE).isBefore(ende)) {
+            throw new IllegalArgumentException("Zeitraum ist länger als " + MAX_JAHRE + " Jahre");
+        }
+        return new DatumFormatCache(format, anfang, ende);
+    }
+
+    /**
+     * Formatiert ein Datum.
+     * <p>
+     * Das Ergebnis entspricht {@code getFormat().format(datum)}.
+     *
+     * @param datum
+     *     das Datum, nicht null
+     * @return das formatierte Datum, nicht null
+     */
+    public String format(LocalDate datum) {
+        long index = datum.toEpochDay() - anfangEpochentag;
+        if (index < 0 || index >= eintraege.length) {
+            return OutFormat.format(format, datum);
+        }
+        String eintrag = eintraege[(int) index];
+        if (eintrag == null) {
+            eintrag = OutFormat.format(format, datum);
+            eintraege[(int) index] = eintrag;
+        }
+        return eintrag;
+    }
+
+    /**
+     * Liefert das Format.
+     *
+     * @return {@link OutFormat#DATUM} oder {@link DateTimeFormatter#ISO_LOCAL_DATE}, nicht null
+     */
+    public DateTimeFormatter getFormat() {
+        return format;
+    }
+
+    /**
+     * Liefert den ersten Tag des Zeitraums, für den Ergebnisse zwischengespeichert werden.
+     *
+     * @return der erste Tag, nicht null
+     */
+    public LocalDate getAnfang() {
+        return anfang;
+    }
+
+    /**
+     * Liefert den letzten Tag des Zeitraums, für den Ergebnisse zwischengespeichert werden.
+     *
+     * @return der letzte Tag, nicht null
+     */
+    public LocalDate getEnde() {
+        return ende;
+    }
+}
@@ -0,0 +1,148 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.io.IOException;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Schreibt Datums- und Zeitwerte in den langen Formaten von {@link OutFormat} mit Namen von Wochentagen,
+ * Monaten und Zeitzonen, ohne den {@link DateTimeFormatter} zu verwenden:
+ * <ul>
+ * <li>{@link OutFormat#DATUM_ZEIT_LANG_TAG_ZONE}: {@code cccc, dd. MMMM uuuu HH:mm:ss z}</li>
+ * <li>{@link OutFormat#DATUM_ZEIT_LANG_TAG}: {@code cccc, dd. MMMM uuuu HH:mm:ss}</li>
+ * <li>{@link OutFormat#DATUM_ZEIT_LANG_ZONE}: {@code dd. MMMM uuuu HH:mm:ss z}</li>
+ * </ul>
+ * Der {@link DateTimeFormatter} fragt die Namen bei jedem Aufruf über die Locale-Provider ab. Die Namen der
+ * Wochentage und Monate für {@link Locale#GERMAN} stehen hier in Tabellen, die einmalig mit demselben
+ * Provider gefüllt werden, sodass die Ausgabe identisch bleibt. Die Namen der Zeitzonen werden beim ersten
+ * Auftreten je Zone und Sommerzeit ermittelt und zwischengespeichert.
+ * <p>
+ * Unterstützt werden Jahre von 0 bis 9999, für die Formate mit Zeitzone nur {@link ZonedDateTime}, wie
+ * beim {@link DateTimeFormatter} mit dem Muster {@code z}. Für alle anderen Werte liefert
+ * {@link #schreibe(DateTimeFormatter, TemporalAccessor, Appendable)} false, und der Wert muss mit dem
+ * {@link DateTimeFormatter} formatiert werden.
+ */
+final class DatumZeitLangSchreiber {
+
+    /**
+     * Die Namen der Wochentage von Montag bis Sonntag ({@code cccc}).
+     */
+    private static final String[] WOCHENTAGE = new String[7];
+
+    /**
+     * Die Namen der Monate von Januar bis Dezember ({@code MMMM}).
+     */
+    private static final String[] MONATE = new String[12];
+
+    /**
+     * Formatiert nur den Namen der Zeitzone ({@code z}).
+     */
+    private static final DateTimeFormatter ZONE = DateTimeFormatter.ofPattern("z", Locale.GERMAN);
+
+    /**
+     * Die Namen der Zeitzonen ohne und mit Sommerzeit.
+     */
+    private static final Map<ZoneId, String[]> ZONENNAMEN = new ConcurrentHashMap<>();
+
+    static {
+        DateTimeFormatter wochentag = DateTimeFormatter.ofPattern("cccc", Locale.GERMAN);
+        DateTimeFormatter monat = DateTimeFormatter.ofPattern("MMMM", Locale.GERMAN);
+        LocalDate montag = LocalDate.of(2017, 7, 3);
+        for (DayOfWeek tag : DayOfWeek.values()) {
+            WOCHENTAGE[tag.ordinal()] = wochentag.format(montag.plusDays(tag.ordinal()));
+        }
+        for (int i = 0; i < MONATE.length; i++) {
+            MONATE[i] = monat.format(LocalDate.of(2017, i + 1, 1));
+        }
+    }
+
+    private DatumZeitLangSchreiber() {
+    }
+
+    /**
+     * Prüft, ob ein Format von dieser Klasse geschrieben werden kann.
+     */
+    static boolean unterstuetzt(DateTimeFormatter format) {
+        return format == OutFormat.DATUM_ZEIT_LANG_TAG_ZONE || format == OutFormat.DATUM_ZEIT_LANG_TAG
+            || format == OutFormat.DATUM_ZEIT_LANG_ZONE;
+    }
+
+    /**
+     * Hängt einen Wert in einem Format an.
+     *
+     * @param format
+     *     das Format
+     * @param wert
+     *     der Wert
+     * @param ziel
+     *     das Ziel, an das die Zeichen angehängt werden
+     * @return ob der Wert geschrieben wurde, false, wenn Format oder Wert nicht unterstützt werden und nichts
+     * geschrieben wurde
+     * @throws IOException
+     *     wenn das Ziel eine Exception wirft
+     */
+    static boolean schreibe(DateTimeFormatter format, TemporalAccessor wert, Appendable ziel)
+        throws IOException {
+        if (!unterstuetzt(format)) {
+            return false;
+        }
+        LocalDate datum = DatumZeitSchreiber.datum(wert);
+        LocalTime zeit = DatumZeitSchreiber.zeit(wert);
+        String zone = null;
+        if (format != OutFormat.DATUM_ZEIT_LANG_TAG) {
+            zone = zone(wert);
+            if (zone == null) {
+                return false;
+            }
+        }
+        if (datum == null || zeit == null) {
+            return false;
+        }
+
+        if (format != OutFormat.DATUM_ZEIT_LANG_ZONE) {
+            ziel.append(WOCHENTAGE[datum.getDayOfWeek().ordinal()]).append(", ");
+        }
+        int jahr = datum.getYear();
+        DatumZeitSchreiber.zweiZiffern(datum.getDayOfMonth(), ziel);
+        ziel.append(". ").append(MONATE[datum.getMonthValue() - 1]).append(' ');
+        DatumZeitSchreiber.zweiZiffern(jahr / 100, ziel);
+        DatumZeitSchreiber.zweiZiffern(jahr % 100, ziel);
+        ziel.append(' ');
+        DatumZeitSchreiber.zeit(zeit, true, ziel);
+        if (zone != null) {
+            ziel.append(' ').append(zone);
+        }
+        return true;
+    }
+
+    /**
+     * Liefert den Namen der Zeitzone eines Wertes wie {@code z} oder null, wenn der Wert keine Zeitzone hat.
+     */
+    private static String zone(TemporalAccessor wert) {
+        if (!(wert instanceof ZonedDateTime)) {
+            return null;
+        }
+        ZonedDateTime datumZeit = (ZonedDateTime) wert;
+        ZoneId zone = datumZeit.getZone();
+        if (zone instanceof ZoneOffset) {
+            return zone.getId();
+        }
+        int sommerzeit = zone.getRules().isDaylightSavings(datumZeit.toInstant()) ? 1 : 0;
+        String[] namen = ZONENNAMEN.computeIfAbsent(zone, z -> new String[2]);
+        String name = namen[sommerzeit];
+        if (name == null) {
+            name = ZONE.format(datumZeit);
+            namen[sommerzeit] = name;
+        }
+        return name;
+    }
+}
@@ -0,0 +1,492 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Ein von der Anwendung definiertes Datums- oder Zeitformat, das beim Erstellen in eine Folge fester Elemente
+ * übersetzt wird.
+ * <p>
+ * Das Muster hat dieselbe Bedeutung wie bei {@link DateTimeFormatter#ofPattern(String, Locale)} mit
+ * {@link Locale#GERMAN}, wie bei den Formaten von {@link OutFormat}. Namen von Monaten und Wochentagen werden
+ * daher unabhängig von der Default-Locale der JVM auf Deutsch ausgegeben und erwartet. Muster aus den
+ * numerischen Feldern {@code d}, {@code dd}, {@code M}, {@code MM}, {@code u}, {@code uu}, {@code uuuu},
+ * {@code y}, {@code yy}, {@code yyyy}, {@code H}, {@code HH}, {@code m}, {@code mm}, {@code s}, {@code ss},
+ * {@code S} bis {@code SSSSSSSSS} und Literalen (auch in Hochkommas) werden ohne den
+ * {@link DateTimeFormatter} formatiert und geparst: Die Elemente werden einmal ermittelt und bei jedem Aufruf
+ * in einer Schleife direkt abgearbeitet, statt den Wert über {@link TemporalAccessor}-Abfragen zu lesen bzw.
+ * ein Zwischenergebnis aufzulösen. Für Muster mit anderen Buchstaben (z.B. Namen von Monaten oder Zeitzonen)
+ * und optionale Abschnitte wird der {@link DateTimeFormatter} verwendet.
+ * <p>
+ * Auch bei übersetzten Mustern werden Werte, die der schnelle Weg nicht abdeckt, an den
+ * {@link DateTimeFormatter} übergeben. Dies sind beim Formatieren Jahre außerhalb von 1 bis 9999 und Werte
+ * ohne die benötigten Felder, beim Parsen alle Eingaben, die nicht exakt dem Muster entsprechen oder
+ * ungültige Werte enthalten (auch die Zeit 24:00). Ergebnisse und Exceptions sind daher immer dieselben wie
+ * beim {@link DateTimeFormatter}.
+ * <p>
+ * Beispiel:
+ * <pre>
+ * private static final DatumZeitMuster STICHTAG = DatumZeitMuster.of("dd.MM.uuuu 'um' HH:mm");
+ *
+ * LocalDateTime stichtag = STICHTAG.parseToLocalDateTime("01.08.2017 um 12:00");
+ * String text = STICHTAG.format(stichtag);
+ * </pre>
+ * Instanzen sind unveränderlich und thread-safe.
+ */
+public final class DatumZeitMuster {
+
+    private static final byte LITERAL = 0;
+
+    private static final byte TAG = 1;
+
+    private static final byte MONAT = 2;
+
+    /**
+     * Das proleptische Jahr ({@code u}).
+     */
+    private static final byte JAHR = 3;
+
+    /**
+     * Das Jahr der Ära ({@code y}), für die unterstützten Jahre ab 1 gleich dem proleptischen Jahr.
+     */
+    private static final byte JAHR_DER_AERA = 4;
+
+    private static final byte STUNDE = 5;
+
+    private static final byte MINUTE = 6;
+
+    private static final byte SEKUNDE = 7;
+
+    private static final byte BRUCHTEIL = 8;
+
+    private static final int ANZAHL_FELDER = 9;
+
+    private static final int[] ZEHNERPOTENZ =
+        { 1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000 };
+
+    private final String muster;
+
+    private final DateTimeFormatter formatter;
+
+    /**
+     * Die Felder der Elemente bzw. {@link #LITERAL}, oder null, wenn das Muster nicht übersetzt werden kann.
+     */
+    private final byte[] felder;
+
+    /**
+     * Die Anzahl der Buchstaben je Feld.
+     */
+    private final byte[] breiten;
+
+    /**
+     * Die Zeichen der Literale.
+     */
+    private final char[] literale;
+
+    private final boolean mitDatum;
+
+    private final boolean mitZeit;
+
+    /**
+     * Ob Eingaben ohne den {@link DateTimeFormatter} geparst werden können.
+     */
+    private final boolean parsebar;
+
+    private DatumZeitMuster(String muster, byte[] felder, byte[] breiten, char[] literale) {
+        this.muster = muster;
+        this.formatter = DateTimeFormatter.ofPattern(muster, Locale.GERMAN);
+        this.felder = felder;
+        this.breiten = breiten;
+        this.literale = literale;
+
+        boolean[] vorhanden = new boolean[ANZAHL_FELDER];
+        boolean parsebar = felder != null;
+        for (int i = 0; felder != null && i < felder.length; i++) {
+            if (felder[i] != LITERAL) {
+                parsebar &= !vorhanden[felder[i]] && (!istVariabel(i) || folgtTrennzeichen(i));
+                vorhanden[felder[i]] = true;
+            }
+        }
+        this.mitDatum = vorhanden[TAG] || vorhanden[MONAT] || vorhanden[JAHR] || vorhanden[JAHR_DER_AERA];
+        this.mitZeit = vorhanden[STUNDE] || vorhanden[MINUTE] || vorhanden[SEKUNDE] || vorhanden[BRUCHTEIL];
+        this.parsebar = parsebar && !(vorhanden[JAHR] && vorhanden[JAHR_DER_AERA])
+            && (!vorhanden[MINUTE] || vorhanden[STUNDE]) && (!vorhanden[SEKUNDE] || vorhanden[MINUTE])
+            && (!vorhanden[BRUCHTEIL] || vorhanden[SEKUNDE]);
+    }
+
+    /**
+     * Erstellt ein Format aus einem Muster.
+     *
+     * @param muster
+     *     das Muster wie bei {@link DateTimeFormatter#ofPattern(String, Locale)}, nicht null
+     * @return das Format
+     * @throws IllegalArgumentException
+     *     wenn das Muster ungültig ist
+     */
+    public static DatumZeitMuster of(String muster) {
+        Objects.requireNonNull(muster);
+        // Prüft das Muster und wirft dieselbe Exception wie der DateTimeFormatter.
+        DateTimeFormatter.ofPattern(muster, Locale.GERMAN);
+
+        int anzahl = 0;
+        byte[] felder = new byte[muster.length()];
+        byte[] breiten = new byte[muster.length()];
+        char[] literale = new char[muster.length()];
+        int pos = 0;
+        while (pos < muster.length()) {
+            char c = muster.charAt(pos);
+            if (c >= 'A' && c <= 'Z' || c >= 'a' && c <= 'z') {
+                int anfang = pos;
+                while (pos < muster.length() && muster.charAt(pos) == c) {
+                    pos++;
+                }
+                byte feld = feld(c, pos - anfang);
+                if (feld == LITERAL) {
+                    return new DatumZeitMuster(muster, null, null, null);
+                }
+                felder[anzahl] = feld;
+                breiten[anzahl++] = (byte) (pos - anfang);
+            } else if (c == '\'') {
+                int ende = ++pos;
+                while (ende < muster.length()) {
+                    if (muster.charAt(ende) == '\'') {
+                        if (ende + 1 < muster.length() && muster.charAt(ende + 1) == '\'') {
+                            ende++;
+                        } else {
+                            break;
+                        }
+                    }
+                    ende++;
+                }
+                if (ende == pos) {
+                    literale[anzahl++] = '\'';
+                }
+                for (; pos < ende; pos++) {
+                    literale[anzahl++] = muster.charAt(pos);
+                    if (muster.charAt(pos) == '\'') {
+                        pos++;
+                    }
+                }
+                pos++;
+            } else if (c == '[' || c == ']') {
+                return new DatumZeitMuster(muster, null, null, null);
+            } else {
+                literale[anzahl++] = c;
+                pos++;
+            }
+        }
+
+        return new DatumZeitMuster(muster, Arrays.copyOf(felder, anzahl),
+            Arrays.copyOf(breiten, anzahl), Arrays.copyOf(literale, anzahl));
+    }
+
+    /**
+     * Liefert das Feld zu einem Buchstaben und der Anzahl seiner Wiederholungen.
+     *
+     * @return das Feld oder {@link #LITERAL}, wenn die Kombination nicht unterstützt wird
+     */
+    private static byte feld(char buchstabe, int anzahl) {
+        switch (buchstabe) {
+            case 'd':
+                return anzahl <= 2 ? TAG : LITERAL;
+            case 'M':
+                return anzahl <= 2 ? MONAT : LITERAL;
+            case 'u':
+                return anzahl != 3 && anzahl <= 4 ? JAHR : LITERAL;
+            case 'y':
+                return anzahl != 3 && anzahl <= 4 ? JAHR_DER_AERA : LITERAL;
+            case 'H':
+                return anzahl <= 2 ? STUNDE : LITERAL;
+            case 'm':
+                return anzahl <= 2 ? MINUTE : LITERAL;
+            case 's':
+                return anzahl <= 2 ? SEKUNDE : LITERAL;
+            case 'S':
+                return anzahl <= 9 ? BRUCHTEIL : LITERAL;
+            default:
+                return LITERAL;
+        }
+    }
+
+    /**
+     * @return das Muster
+     */
+    public String getMuster() {
+        return muster;
+    }
+
+    /**
+     * @return der {@link DateTimeFormatter} zum Muster
+     */
+    public DateTimeFormatter getFormatter() {
+        return formatter;
+    }
+
+    /**
+     * @return ob das Muster übersetzt wurde oder immer der {@link DateTimeFormatter} verwendet wird
+     */
+    public boolean istUebersetzt() {
+        return felder != null;
+    }
+
+    /**
+     * Formatiert einen Datums- oder Zeitwert.
+     * <p>
+     * Das Ergebnis entspricht {@code getFormatter().format(wert)}.
+     *
+     * @param wert
+     *     der Wert, der formatiert werden soll, nicht null
+     * @return der formatierte Wert, nicht null
+     * @throws java.time.DateTimeException
+     *     wenn der Wert nicht formatiert werden kann
+     */
+    public String format(TemporalAccessor wert) {
+        Objects.requireNonNull(wert);
+
+        if (felder != null) {
+            LocalDate datum = mitDatum ? DatumZeitSchreiber.datum(wert) : null;
+            LocalTime zeit = mitZeit ? DatumZeitSchreiber.zeit(wert) : null;
+            if ((!mitDatum || datum != null && datum.getYear() > 0) && (!mitZeit || zeit != null)) {
+                StringBuilder ziel = new StringBuilder(felder.length + 8);
+                for (int i = 0; i < felder.length; i++) {
+                    schreibe(i, datum, zeit, ziel);
+                }
+                return ziel.toString();
+            }
+        }
+        return formatter.format(wert);
+    }
+
+    private void schreibe(int element, LocalDate datum, LocalTime zeit, StringBuilder ziel) {
+        int breite = breiten[element];
+        switch (felder[element]) {
+            case TAG:
+                ziffern(datum.getDayOfMonth(), breite, ziel);
+                break;
+            case MONAT:
+                ziffern(datum.getMonthValue(), breite, ziel);
+                break;
+            case JAHR:
+            case JAHR_DER_AERA:
+                ziffern(breite == 2 ? datum.getYear() % 100 : datum.getYear(), breite, ziel);
+                break;
+            case STUNDE:
+                ziffern(zeit.getHour(), breite, ziel);
+                break;
+            case MINUTE:
+                ziffern(zeit.getMinute(), breite, ziel);
+                break;
+            case SEKUNDE:
+                ziffern(zeit.getSecond(), breite, ziel);
+                break;
+            case BRUCHTEIL:
+                ziffern(zeit.getNano() / ZEHNERPOTENZ[9 - breite], breite, ziel);
+                break;
+            default:
+                ziel.append(literale[element]);
+                break;
+        }
+    }
+
+    /**
+     * Schreibt eine nicht negative Zahl mit mindestens {@code breite} Ziffern.
+     */
+    private static void ziffern(int wert, int breite, StringBuilder ziel) {
+        for (int stellen = breite; stellen > 1 && wert < ZEHNERPOTENZ[stellen - 1]; stellen--) {
+            ziel.append('0');
+        }
+        ziel.append(wert);
+    }
+
+    /**
+     * Parst einen Text in ein {@link LocalDate}.
+     * <p>
+     * Das Ergebnis entspricht {@code getFormatter().parse(text, LocalDate::from)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public LocalDate parseToLocalDate(CharSequence text) {
+        int[] werte = scanne(text);
+        if (werte == null || !mitDatum(werte)) {
+            return formatter.parse(text, LocalDate::from);
+        }
+        return datum(werte);
+    }
+
+    /**
+     * Parst einen Text in eine {@link LocalTime}.
+     * <p>
+     * Das Ergebnis entspricht {@code getFormatter().parse(text, LocalTime::from)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public LocalTime parseToLocalTime(CharSequence text) {
+        int[] werte = scanne(text);
+        if (werte == null || !mitZeit(werte)) {
+            return formatter.parse(text, LocalTime::from);
+        }
+        return zeit(werte);
+    }
+
+    /**
+     * Parst einen Text in eine {@link LocalDateTime}.
+     * <p>
+     * Das Ergebnis entspricht {@code getFormatter().parse(text, LocalDateTime::from)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public LocalDateTime parseToLocalDateTime(CharSequence text) {
+        int[] werte = scanne(text);
+        if (werte == null || !mitDatum(werte) || !mitZeit(werte)) {
+            return formatter.parse(text, LocalDateTime::from);
+        }
+        return LocalDateTime.of(datum(werte), zeit(werte));
+    }
+
+    /**
+     * Liest die Felder einer Eingabe, die exakt dem Muster entspricht und nur gültige Werte enthält.
+     *
+     * @return die Werte der Felder, -1 für Felder, die im Muster nicht vorkommen, oder null, wenn die Eingabe
+     * mit dem {@link DateTimeFormatter} geparst werden muss
+     */
+    private int[] scanne(CharSequence text) {
+        Objects.requireNonNull(text);
+        if (!parsebar) {
+            return null;
+        }
+
+        int[] werte = { -1, -1, -1, -1, -1, -1, -1, -1, -1 };
+        int pos = 0;
+        int laenge = text.length();
+        for (int i = 0; i < felder.length; i++) {
+            byte feld = felder[i];
+            if (feld == LITERAL) {
+                if (pos >= laenge || text.charAt(pos) != literale[i]) {
+                    return null;
+                }
+                pos++;
+                continue;
+            }
+
+            int breite = breiten[i];
+            int maxStellen =
+                !istVariabel(i) || breite > 1 ? breite : feld == JAHR || feld == JAHR_DER_AERA ? 4 : 2;
+            int anfang = pos;
+            int wert = 0;
+            while (pos < laenge && pos - anfang < maxStellen && istZiffer(text.charAt(pos))) {
+                wert = wert * 10 + text.charAt(pos++) - '0';
+            }
+            if (pos - anfang < breite) {
+                return null;
+            }
+            if ((feld == JAHR || feld == JAHR_DER_AERA) && breite == 2) {
+                wert += 2000;
+            }
+            if (!istGueltig(feld, wert)) {
+                return null;
+            }
+            werte[feld] = wert;
+        }
+        return pos == laenge ? werte : null;
+    }
+
+    private static boolean istGueltig(byte feld, int wert) {
+        switch (feld) {
+            case TAG:
+                return wert >= 1 && wert <= 31;
+            case MONAT:
+                return wert >= 1 && wert <= 12;
+            case JAHR_DER_AERA:
+                return wert >= 1;
+            case STUNDE:
+                return wert <= 23;
+            case MINUTE:
+            case SEKUNDE:
+                return wert <= 59;
+            default:
+                return true;
+        }
+    }
+
+    private static boolean mitDatum(int[] werte) {
+        return werte[TAG] >= 0 && werte[MONAT] >= 0 && (werte[JAHR] >= 0 || werte[JAHR_DER_AERA] >= 0);
+    }
+
+    private static boolean mitZeit(int[] werte) {
+        return werte[STUNDE] >= 0 && werte[MINUTE] >= 0;
+    }
+
+    /**
+     * Liefert das Datum. Wie beim {@link java.time.format.ResolverStyle#SMART} werden Tage nach dem Monatsende
+     * auf den letzten Tag des Monats gesetzt.
+     */
+    private static LocalDate datum(int[] werte) {
+        int jahr = Math.max(werte[JAHR], werte[JAHR_DER_AERA]);
+        int monat = werte[MONAT];
+        return LocalDate.of(jahr, monat, Math.min(werte[TAG], Month.of(monat).length(Year.isLeap(jahr))));
+    }
+
+    private LocalTime zeit(int[] werte) {
+        int nano = 0;
+        for (int i = 0; i < felder.length; i++) {
+            if (felder[i] == BRUCHTEIL) {
+                nano = werte[BRUCHTEIL] * ZEHNERPOTENZ[9 - breiten[i]];
+            }
+        }
+        return LocalTime.of(werte[STUNDE], werte[MINUTE], Math.max(werte[SEKUNDE], 0), nano);
+    }
+
+    /**
+     * Prüft, ob ein Feld beim {@link DateTimeFormatter} variabel viele Ziffern hat ({@code d}, {@code M},
+     * {@code u}, aber auch {@code uuuu} und {@code yyyy} mit vier oder mehr Ziffern).
+     */
+    private boolean istVariabel(int element) {
+        byte feld = felder[element];
+        return breiten[element] == 1 && feld != BRUCHTEIL
+            || breiten[element] == 4 && (feld == JAHR || feld == JAHR_DER_AERA);
+    }
+
+    /**
+     * Prüft, ob auf ein Element höchstens Felder fester Breite und danach das Ende oder ein Literal folgen,
+     * das keine Ziffer ist. Der {@link DateTimeFormatter} liest ein variabel langes Feld bis zu diesem
+     * Trennzeichen und lässt nur die Ziffern der folgenden festen Felder übrig. Liest der Scanner bis zum
+     * selben Trennzeichen, teilt er die Ziffern daher genauso auf.
+     */
+    private boolean folgtTrennzeichen(int element) {
+        int i = element + 1;
+        while (i < felder.length && felder[i] != LITERAL && !istVariabel(i)) {
+            i++;
+        }
+        return i == felder.length || felder[i] == LITERAL && !istZiffer(literale[i]);
+    }
+
+    private static boolean istZiffer(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @Override
+    public String toString() {
+        return muster;
+    }
+}
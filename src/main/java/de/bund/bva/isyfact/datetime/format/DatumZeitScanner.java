@@ -0,0 +1,564 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+
+/**
+ * Scanner für die Eingabeformate von {@link InFormat}.
+ * <p>
+ * Die Methoden erkennen die gängigen Schreibweisen der Eingabeformate in einem einzigen Durchlauf und ohne
+ * Zwischenobjekte. Eingaben, die nicht sicher erkannt werden, werden mit {@link #UNGUELTIG} abgelehnt. In
+ * diesem Fall wertet {@link InFormat} die Eingabe mit dem zugehörigen
+ * {@link java.time.format.DateTimeFormatter} aus, sodass Ergebnis und Fehlermeldung unverändert bleiben.
+ * Eingaben, deren Schreibweise erkannt wurde, deren Werte aber sicher ungültig sind (z.B. {@code 32.1.2017}),
+ * werden mit {@link #FEHLERHAFT} abgelehnt.
+ */
+final class DatumZeitScanner {
+
+    /**
+     * Ergebnis, wenn die Eingabe nicht vom Scanner erkannt wurde.
+     */
+    static final int UNGUELTIG = -1;
+
+    /**
+     * Ergebnis, wenn die Schreibweise der Eingabe erkannt wurde, die Werte aber ungültig sind. Auch der
+     * {@link java.time.format.DateTimeFormatter} lehnt solche Eingaben ab.
+     */
+    static final int FEHLERHAFT = -2;
+
+    /**
+     * Ergebnis von {@link #scanneOffset(CharSequence, int, int)}, wenn die Eingabe nicht erkannt wurde.
+     */
+    static final int OFFSET_UNGUELTIG = Integer.MIN_VALUE;
+
+    /**
+     * Ergebnis von {@link #scanneOffsetSuffix(CharSequence, int, int)}, wenn kein Offset angegeben ist.
+     */
+    static final int OHNE_OFFSET = Integer.MAX_VALUE;
+
+    /**
+     * Ergebnisse von {@link #scanneOffsetSuffix(CharSequence, int, int)} ab diesem Wert (außer
+     * {@link #OHNE_OFFSET}) stehen für eine Zeitzonen-ID, siehe {@link #istZone(int)} und {@link #zone(int)}.
+     * Der Wert liegt weit außerhalb der möglichen Offsets in Sekunden.
+     */
+    private static final int ZONE = 1 << 24;
+
+    /**
+     * Anzahl der Tage vom 1.1.0000 bis zum 1.1.1970.
+     */
+    private static final int TAGE_0000_BIS_1970 = 719_528;
+
+    static final long NANOS_PRO_SEKUNDE = 1_000_000_000L;
+
+    private static final long NANOS_PRO_MINUTE = 60 * NANOS_PRO_SEKUNDE;
+
+    private static final long NANOS_PRO_STUNDE = 60 * NANOS_PRO_MINUTE;
+
+    /**
+     * Faktoren, um einen Sekundenbruchteil mit 0 bis 9 Stellen in Nanosekunden umzurechnen.
+     */
+    private static final int[] BRUCHTEIL_FAKTOR =
+        { 1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1 };
+
+    private DatumZeitScanner() {
+    }
+
+    /**
+     * Liest ein Datum im Format {@code d[d].M[M].[u][uu][uuu][uuuu]} aus einem Bereich des Textes.
+     * <p>
+     * Erkannt werden ein- oder zweistellige Tage und Monate sowie ein- bis vierstellige Jahre. Die häufige
+     * feste Breite {@code dd.MM.uuuu} wird vorab mit dem {@link FestbreitenScanner} gelesen. Wie beim
+     * {@link java.time.format.DateTimeFormatter} wird das Jahr immer unverändert übernommen, d.h.
+     * {@code 1.1.11} ist der 1. Januar 11, und Tage nach dem Monatsende werden entsprechend
+     * {@link java.time.format.ResolverStyle#SMART} auf den letzten Tag des Monats gesetzt.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das Datum in gepackter Form (siehe {@link #jahr(int)}, {@link #monat(int)}, {@link #tag(int)}),
+     * {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     */
+    static int scanneDatum(CharSequence text, int von, int bis) {
+        if (bis - von == 10) {
+            int datum = FestbreitenScanner.scanneDatum(text, von);
+            if (datum >= 0) {
+                return datum;
+            }
+        }
+
+        int pos = von;
+
+        int tag = 0;
+        int ende = Math.min(bis, pos + 2);
+        while (pos < ende && istZiffer(text.charAt(pos))) {
+            tag = tag * 10 + text.charAt(pos++) - '0';
+        }
+        if (pos == von || pos >= bis || text.charAt(pos) != '.') {
+            return UNGUELTIG;
+        }
+
+        int monatAnfang = ++pos;
+        int monat = 0;
+        ende = Math.min(bis, pos + 2);
+        while (pos < ende && istZiffer(text.charAt(pos))) {
+            monat = monat * 10 + text.charAt(pos++) - '0';
+        }
+        if (pos == monatAnfang || pos >= bis || text.charAt(pos) != '.') {
+            return UNGUELTIG;
+        }
+
+        int jahrAnfang = ++pos;
+        int jahr = 0;
+        while (pos < bis && istZiffer(text.charAt(pos))) {
+            jahr = jahr * 10 + text.charAt(pos++) - '0';
+        }
+        if (pos != bis || pos == jahrAnfang || pos - jahrAnfang > 4) {
+            return UNGUELTIG;
+        }
+
+        if (monat < 1 || monat > 12 || tag < 1 || tag > 31) {
+            return FEHLERHAFT;
+        }
+
+        return (jahr << 9) | (monat << 5) | Math.min(tag, Month.of(monat).length(Year.isLeap(jahr)));
+    }
+
+    /**
+     * Liest eine Zeit im Format {@code H[H]:mm[:ss[.SSSSSSSSS][.SSSSSS][.SSS]]} aus einem Bereich des Textes.
+     * <p>
+     * Wie beim {@link java.time.format.DateTimeFormatter} werden nur Sekundenbruchteile mit genau drei, sechs
+     * oder neun Stellen erkannt. Die Zeit 24:00, die der Formatter als Mitternacht des Folgetages liest, wird
+     * nicht erkannt. Die feste Breite {@code HH:mm:ss} wird vorab mit dem {@link FestbreitenScanner} gelesen.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die Nanosekunde des Tages, {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     */
+    static long scanneZeit(CharSequence text, int von, int bis) {
+        if (bis - von == 8) {
+            int sekunde = FestbreitenScanner.scanneZeit(text, von);
+            if (sekunde >= 0) {
+                return sekunde * NANOS_PRO_SEKUNDE;
+            }
+        }
+
+        int pos = von;
+
+        int stunde = 0;
+        int ende = Math.min(bis, pos + 2);
+        while (pos < ende && istZiffer(text.charAt(pos))) {
+            stunde = stunde * 10 + text.charAt(pos++) - '0';
+        }
+        if (pos == von || pos >= bis || text.charAt(pos) != ':') {
+            return UNGUELTIG;
+        }
+
+        int minute = zweiZiffern(text, pos + 1, bis);
+        pos += 3;
+
+        int sekunde = 0;
+        int nano = 0;
+        if (pos < bis) {
+            if (text.charAt(pos) != ':') {
+                return UNGUELTIG;
+            }
+            sekunde = zweiZiffern(text, pos + 1, bis);
+            pos += 3;
+
+            if (pos < bis) {
+                if (text.charAt(pos) != '.') {
+                    return UNGUELTIG;
+                }
+                int bruchteilAnfang = ++pos;
+                ende = Math.min(bis, pos + 9);
+                while (pos < ende && istZiffer(text.charAt(pos))) {
+                    nano = nano * 10 + text.charAt(pos++) - '0';
+                }
+                int stellen = pos - bruchteilAnfang;
+                if (pos != bis || (stellen != 3 && stellen != 6 && stellen != 9)) {
+                    return UNGUELTIG;
+                }
+                nano *= BRUCHTEIL_FAKTOR[stellen];
+            }
+        }
+
+        if (minute < 0 || sekunde < 0) {
+            return UNGUELTIG;
+        }
+        if (stunde > 24 || minute > 59 || sekunde > 59) {
+            return FEHLERHAFT;
+        }
+        if (stunde == 24) {
+            return minute == 0 && sekunde == 0 && nano == 0 ? UNGUELTIG : FEHLERHAFT;
+        }
+
+        return stunde * NANOS_PRO_STUNDE + minute * NANOS_PRO_MINUTE + sekunde * NANOS_PRO_SEKUNDE + nano;
+    }
+
+    /**
+     * Liest einen Offset im Format {@code xxx} ({@code +HH:MM}) aus einem Bereich des Textes.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return der Offset in Sekunden oder {@link #OFFSET_UNGUELTIG}
+     */
+    static int scanneOffset(CharSequence text, int von, int bis) {
+        if (bis - von != 6 || text.charAt(von + 3) != ':') {
+            return OFFSET_UNGUELTIG;
+        }
+
+        char vorzeichen = text.charAt(von);
+        int stunden = zweiZiffern(text, von + 1, bis);
+        int minuten = zweiZiffern(text, von + 4, bis);
+        if ((vorzeichen != '+' && vorzeichen != '-') || stunden < 0 || stunden > 17 || minuten < 0
+            || minuten > 59) {
+            return OFFSET_UNGUELTIG;
+        }
+
+        int sekunden = stunden * 3600 + minuten * 60;
+        return vorzeichen == '-' ? -sekunden : sekunden;
+    }
+
+    /**
+     * Liest den optionalen Offset {@code [ xxx]} oder die optionale Zeitzone {@code [ z]} am Ende einer
+     * Zeitangabe. Als Zeitzonen werden nur die IDs aus {@link Zeitzonen} erkannt.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive), d.h. die Position direkt hinter der Zeit
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return der Offset in Sekunden, eine Zeitzone (siehe {@link #istZone(int)}), {@link #OHNE_OFFSET} für
+     * einen leeren Bereich oder {@link #OFFSET_UNGUELTIG}
+     */
+    static int scanneOffsetSuffix(CharSequence text, int von, int bis) {
+        if (von >= bis) {
+            return OHNE_OFFSET;
+        }
+        if (text.charAt(von) != ' ' || von + 1 == bis) {
+            return OFFSET_UNGUELTIG;
+        }
+
+        char c = text.charAt(von + 1);
+        if (c == '+' || c == '-') {
+            return scanneOffset(text, von + 1, bis);
+        }
+        if (c < 'A' || c > 'Z') {
+            return OFFSET_UNGUELTIG;
+        }
+        int index = Zeitzonen.suche(text, von + 1, bis);
+        return index < 0 ? OFFSET_UNGUELTIG : ZONE + index;
+    }
+
+    /**
+     * @param offset
+     *     ein Ergebnis von {@link #scanneOffsetSuffix(CharSequence, int, int)}
+     * @return true, wenn das Ergebnis für eine Zeitzone statt eines Offsets steht
+     */
+    static boolean istZone(int offset) {
+        return offset >= ZONE && offset != OHNE_OFFSET;
+    }
+
+    /**
+     * @param offset
+     *     ein Ergebnis von {@link #scanneOffsetSuffix(CharSequence, int, int)}, für das
+     *     {@link #istZone(int)} gilt
+     * @return die Zeitzone
+     */
+    static ZoneId zone(int offset) {
+        return Zeitzonen.zone(offset - ZONE);
+    }
+
+    /**
+     * Sucht das erste Leerzeichen in einem Bereich des Textes.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die Position des Leerzeichens oder {@code bis}, wenn der Bereich kein Leerzeichen enthält
+     */
+    static int leerzeichen(CharSequence text, int von, int bis) {
+        int pos = von;
+        while (pos < bis && text.charAt(pos) != ' ') {
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Liefert das Ende der Zeit in einem Datum/Zeit-Text, d.h. die Position des Leerzeichens vor dem
+     * optionalen Offset bzw. der Zeitzone.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param datumEnde
+     *     Ende des Datums, d.h. die Position des Leerzeichens vor der Zeit
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das Ende der Zeit
+     */
+    static int zeitEnde(CharSequence text, int datumEnde, int bis) {
+        return datumEnde < bis ? leerzeichen(text, datumEnde + 1, bis) : bis;
+    }
+
+    /**
+     * Liest die Zeit eines Datum/Zeit-Textes, die zwischen dem Leerzeichen an {@code datumEnde} und
+     * {@code zeitEnde} steht.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param datumEnde
+     *     Ende des Datums (siehe {@link #leerzeichen(CharSequence, int, int)})
+     * @param zeitEnde
+     *     Ende der Zeit (siehe {@link #zeitEnde(CharSequence, int, int)})
+     * @return die Nanosekunde des Tages, {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     */
+    static long scanneZeitNachDatum(CharSequence text, int datumEnde, int zeitEnde) {
+        if (datumEnde >= zeitEnde) {
+            return UNGUELTIG;
+        }
+        return scanneZeit(text, datumEnde + 1, zeitEnde);
+    }
+
+    /**
+     * Liest ein Datum im ISO-Format {@code uuuu-MM-dd}
+     * ({@link java.time.format.DateTimeFormatter#ISO_LOCAL_DATE}) aus einem Bereich des Textes.
+     * <p>
+     * Erkannt werden nur vierstellige Jahre ohne Vorzeichen. Da der ISO-Formatter
+     * {@link java.time.format.ResolverStyle#STRICT} verwendet, sind Tage nach dem Monatsende fehlerhaft.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das Datum in gepackter Form, {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     */
+    static int scanneIsoDatum(CharSequence text, int von, int bis) {
+        if (bis - von != 10 || text.charAt(von + 4) != '-' || text.charAt(von + 7) != '-') {
+            return UNGUELTIG;
+        }
+
+        int jahrhundert = zweiZiffern(text, von, bis);
+        int jahrImJahrhundert = zweiZiffern(text, von + 2, bis);
+        int monat = zweiZiffern(text, von + 5, bis);
+        int tag = zweiZiffern(text, von + 8, bis);
+        if (jahrhundert < 0 || jahrImJahrhundert < 0 || monat < 0 || tag < 0) {
+            return UNGUELTIG;
+        }
+
+        int jahr = jahrhundert * 100 + jahrImJahrhundert;
+        if (monat < 1 || monat > 12 || tag < 1 || tag > Month.of(monat).length(Year.isLeap(jahr))) {
+            return FEHLERHAFT;
+        }
+        return (jahr << 9) | (monat << 5) | tag;
+    }
+
+    /**
+     * Liest eine Zeit im ISO-Format {@code HH:mm[:ss[.S...]]}
+     * ({@link java.time.format.DateTimeFormatter#ISO_LOCAL_TIME}) aus einem Bereich des Textes.
+     * <p>
+     * Erkannt werden Sekundenbruchteile mit einer bis neun Stellen. Die Stunde 24 ist fehlerhaft.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die Nanosekunde des Tages, {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     */
+    static long scanneIsoZeit(CharSequence text, int von, int bis) {
+        if (bis - von < 5 || text.charAt(von + 2) != ':') {
+            return UNGUELTIG;
+        }
+        int stunde = zweiZiffern(text, von, bis);
+        int minute = zweiZiffern(text, von + 3, bis);
+
+        int pos = von + 5;
+        int sekunde = 0;
+        int nano = 0;
+        if (pos < bis) {
+            if (text.charAt(pos) != ':') {
+                return UNGUELTIG;
+            }
+            sekunde = zweiZiffern(text, pos + 1, bis);
+            pos += 3;
+
+            if (pos < bis) {
+                if (text.charAt(pos) != '.') {
+                    return UNGUELTIG;
+                }
+                int bruchteilAnfang = ++pos;
+                int ende = Math.min(bis, pos + 9);
+                while (pos < ende && istZiffer(text.charAt(pos))) {
+                    nano = nano * 10 + text.charAt(pos++) - '0';
+                }
+                if (pos != bis || pos == bruchteilAnfang) {
+                    return UNGUELTIG;
+                }
+                nano *= BRUCHTEIL_FAKTOR[pos - bruchteilAnfang];
+            }
+        }
+
+        if (stunde < 0 || minute < 0 || sekunde < 0) {
+            return UNGUELTIG;
+        }
+        if (stunde > 23 || minute > 59 || sekunde > 59) {
+            return FEHLERHAFT;
+        }
+        return stunde * NANOS_PRO_STUNDE + minute * NANOS_PRO_MINUTE + sekunde * NANOS_PRO_SEKUNDE + nano;
+    }
+
+    /**
+     * Liefert das Ende der Zeit in einem ISO-Datum/Zeit-Text, d.h. die Position des Offsets ({@code Z},
+     * {@code +} oder {@code -}) oder {@code bis}.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param zeitAnfang
+     *     Anfang der Zeit, d.h. die Position direkt hinter dem {@code T}
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das Ende der Zeit
+     */
+    static int isoZeitEnde(CharSequence text, int zeitAnfang, int bis) {
+        int pos = zeitAnfang;
+        while (pos < bis) {
+            char c = text.charAt(pos);
+            if (c == 'Z' || c == 'z' || c == '+' || c == '-') {
+                break;
+            }
+            pos++;
+        }
+        return pos;
+    }
+
+    /**
+     * Liest einen ISO-Offset im Format {@code Z} oder {@code +HH:MM}
+     * ({@link java.time.format.DateTimeFormatter#ISO_OFFSET_DATE_TIME}) aus einem Bereich des Textes.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return der Offset in Sekunden oder {@link #OFFSET_UNGUELTIG}
+     */
+    static int scanneIsoOffset(CharSequence text, int von, int bis) {
+        if (bis - von == 1) {
+            char c = text.charAt(von);
+            return c == 'Z' || c == 'z' ? 0 : OFFSET_UNGUELTIG;
+        }
+        return scanneOffset(text, von, bis);
+    }
+
+    /**
+     * Liefert das Jahr eines gepackten Datums.
+     *
+     * @param datum
+     *     das gepackte Datum
+     * @return das Jahr
+     */
+    static int jahr(int datum) {
+        return datum >>> 9;
+    }
+
+    /**
+     * Liefert den Monat eines gepackten Datums.
+     *
+     * @param datum
+     *     das gepackte Datum
+     * @return der Monat (1-12)
+     */
+    static int monat(int datum) {
+        return (datum >>> 5) & 0xF;
+    }
+
+    /**
+     * Liefert den Tag eines gepackten Datums.
+     *
+     * @param datum
+     *     das gepackte Datum
+     * @return der Tag (1-31)
+     */
+    static int tag(int datum) {
+        return datum & 0x1F;
+    }
+
+    /**
+     * Berechnet den Tag seit der Epoche (1.1.1970) eines gepackten Datums wie {@link LocalDate#toEpochDay()}.
+     *
+     * @param datum
+     *     das gepackte Datum, nicht {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     * @return der Tag seit der Epoche
+     */
+    static int epochTag(int datum) {
+        int jahr = jahr(datum);
+        int monat = monat(datum);
+        int tage = 365 * jahr + (jahr + 3) / 4 - (jahr + 99) / 100 + (jahr + 399) / 400
+            + (367 * monat - 362) / 12 + tag(datum) - 1;
+        if (monat > 2) {
+            tage -= Year.isLeap(jahr) ? 1 : 2;
+        }
+        return tage - TAGE_0000_BIS_1970;
+    }
+
+    /**
+     * Wandelt ein gepacktes Datum in ein {@link LocalDate} um.
+     *
+     * @param datum
+     *     das gepackte Datum, nicht {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     * @return das Datum
+     */
+    static LocalDate toLocalDate(int datum) {
+        return LocalDate.of(jahr(datum), monat(datum), tag(datum));
+    }
+
+    /**
+     * Wandelt eine von {@link #scanneZeit(CharSequence, int, int)} gelesene Zeit in eine {@link LocalTime} um.
+     *
+     * @param zeit
+     *     die Nanosekunde des Tages, nicht {@link #UNGUELTIG} oder {@link #FEHLERHAFT}
+     * @return die Zeit
+     */
+    static LocalTime toLocalTime(long zeit) {
+        return LocalTime.ofNanoOfDay(zeit);
+    }
+
+    private static int zweiZiffern(CharSequence text, int pos, int bis) {
+        if (pos + 2 > bis) {
+            return UNGUELTIG;
+        }
+        char zehner = text.charAt(pos);
+        char einer = text.charAt(pos + 1);
+        if (!istZiffer(zehner) || !istZiffer(einer)) {
+            return UNGUELTIG;
+        }
+        return (zehner - '0') * 10 + einer - '0';
+    }
+
+    private static boolean istZiffer(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
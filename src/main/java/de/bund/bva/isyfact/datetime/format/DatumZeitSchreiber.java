@@ -0,0 +1,318 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+
+/**
+ * Schreibt Datums- und Zeitwerte in den numerischen Formaten von {@link OutFormat} als ASCII-Zeichen, ohne den
+ * {@link DateTimeFormatter} zu verwenden.
+ * <p>
+ * Für jedes Format gibt es eine Methode, die die Ziffern direkt an ihre festen Positionen in ein Byte-Array
+ * bzw. an ein {@link Appendable} schreibt, statt wie der {@link DateTimeFormatter} das Muster bei jedem Aufruf
+ * Element für Element zu interpretieren:
+ * <ul>
+ * <li>{@link OutFormat#DATUM}: {@code dd.MM.uuuu}</li>
+ * <li>{@link OutFormat#ZEIT}: {@code HH:mm:ss}</li>
+ * <li>{@link OutFormat#ZEIT_KURZ}: {@code HH:mm}</li>
+ * <li>{@link OutFormat#DATUM_ZEIT}: {@code dd.MM.uuuu HH:mm:ss}</li>
+ * <li>{@link OutFormat#DATUM_ZEIT_ZONE}: {@code dd.MM.uuuu HH:mm:ss xxx}</li>
+ * </ul>
+ * Unterstützt werden die Typen aus {@code java.time}, die die benötigten Felder enthalten, Jahre von 0 bis
+ * 9999 und Offsets in ganzen Minuten. Für alle anderen Werte liefern die Methoden -1 bzw. false, und der
+ * Wert muss mit dem {@link DateTimeFormatter} formatiert werden. Das Ergebnis ist dann identisch,
+ * einschließlich Exceptions für Werte ohne die benötigten Felder.
+ */
+final class DatumZeitSchreiber {
+
+    /**
+     * Maximale Länge eines Wertes ({@link OutFormat#DATUM_ZEIT_ZONE}).
+     */
+    static final int MAX_LAENGE = 26;
+
+    private DatumZeitSchreiber() {
+    }
+
+    /**
+     * Liefert die Länge der Werte in einem Format.
+     *
+     * @param format
+     *     ein Format
+     * @return die Länge oder -1, wenn das Format nicht unterstützt wird
+     */
+    static int laenge(DateTimeFormatter format) {
+        if (format == OutFormat.DATUM) {
+            return 10;
+        } else if (format == OutFormat.ZEIT) {
+            return 8;
+        } else if (format == OutFormat.ZEIT_KURZ) {
+            return 5;
+        } else if (format == OutFormat.DATUM_ZEIT) {
+            return 19;
+        } else if (format == OutFormat.DATUM_ZEIT_ZONE) {
+            return MAX_LAENGE;
+        }
+        return -1;
+    }
+
+    /**
+     * Schreibt einen Wert in einem Format.
+     *
+     * @param format
+     *     das Format
+     * @param wert
+     *     der Wert
+     * @param ziel
+     *     das Array, in das geschrieben wird, mit Platz für {@link #laenge(DateTimeFormatter)} Bytes ab
+     *     {@code pos}
+     * @param pos
+     *     die Position des ersten Zeichens
+     * @return die Position nach dem letzten geschriebenen Zeichen oder -1, wenn Format oder Wert nicht
+     * unterstützt werden und nichts geschrieben wurde
+     */
+    static int schreibe(DateTimeFormatter format, TemporalAccessor wert, byte[] ziel, int pos) {
+        if (format == OutFormat.DATUM) {
+            LocalDate datum = datum(wert);
+            return datum != null ? datum(datum, ziel, pos) : -1;
+        } else if (format == OutFormat.ZEIT) {
+            LocalTime zeit = zeit(wert);
+            return zeit != null ? zeit(zeit, true, ziel, pos) : -1;
+        } else if (format == OutFormat.ZEIT_KURZ) {
+            LocalTime zeit = zeit(wert);
+            return zeit != null ? zeit(zeit, false, ziel, pos) : -1;
+        } else if (format == OutFormat.DATUM_ZEIT) {
+            LocalDate datum = datum(wert);
+            LocalTime zeit = zeit(wert);
+            return datum != null && zeit != null ? datumZeit(datum, zeit, ziel, pos) : -1;
+        } else if (format == OutFormat.DATUM_ZEIT_ZONE) {
+            LocalDate datum = datum(wert);
+            ZoneOffset offset = offset(wert);
+            if (datum == null || offset == null || offset.getTotalSeconds() % 60 != 0) {
+                return -1;
+            }
+            return offset(offset, ziel, datumZeit(datum, zeit(wert), ziel, pos));
+        }
+        return -1;
+    }
+
+    /**
+     * Hängt einen Wert in einem Format an.
+     *
+     * @param format
+     *     das Format
+     * @param wert
+     *     der Wert
+     * @param ziel
+     *     das Ziel, an das die Zeichen angehängt werden
+     * @return ob der Wert geschrieben wurde, false, wenn Format oder Wert nicht unterstützt werden und nichts
+     * geschrieben wurde
+     * @throws IOException
+     *     wenn das Ziel eine Exception wirft
+     */
+    static boolean schreibe(DateTimeFormatter format, TemporalAccessor wert, Appendable ziel)
+        throws IOException {
+        if (format == OutFormat.DATUM) {
+            LocalDate datum = datum(wert);
+            if (datum == null) {
+                return false;
+            }
+            datum(datum, ziel);
+        } else if (format == OutFormat.ZEIT || format == OutFormat.ZEIT_KURZ) {
+            LocalTime zeit = zeit(wert);
+            if (zeit == null) {
+                return false;
+            }
+            zeit(zeit, format == OutFormat.ZEIT, ziel);
+        } else if (format == OutFormat.DATUM_ZEIT) {
+            LocalDate datum = datum(wert);
+            LocalTime zeit = zeit(wert);
+            if (datum == null || zeit == null) {
+                return false;
+            }
+            datumZeit(datum, zeit, ziel);
+        } else if (format == OutFormat.DATUM_ZEIT_ZONE) {
+            LocalDate datum = datum(wert);
+            ZoneOffset offset = offset(wert);
+            if (datum == null || offset == null || offset.getTotalSeconds() % 60 != 0) {
+                return false;
+            }
+            datumZeit(datum, zeit(wert), ziel);
+            offset(offset, ziel);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Liefert das Datum eines Wertes, wenn es mit {@link #datum(LocalDate, byte[], int)} geschrieben werden
+     * kann, d.h. ein Jahr von 0 bis 9999 hat, sonst null.
+     */
+    static LocalDate datum(TemporalAccessor wert) {
+        LocalDate datum;
+        if (wert instanceof LocalDate) {
+            datum = (LocalDate) wert;
+        } else if (wert instanceof LocalDateTime) {
+            datum = ((LocalDateTime) wert).toLocalDate();
+        } else if (wert instanceof ZonedDateTime) {
+            datum = ((ZonedDateTime) wert).toLocalDate();
+        } else if (wert instanceof OffsetDateTime) {
+            datum = ((OffsetDateTime) wert).toLocalDate();
+        } else {
+            return null;
+        }
+        return datum.getYear() >= 0 && datum.getYear() <= 9999 ? datum : null;
+    }
+
+    /**
+     * Liefert die Zeit eines Wertes oder null.
+     */
+    static LocalTime zeit(TemporalAccessor wert) {
+        if (wert instanceof LocalTime) {
+            return (LocalTime) wert;
+        } else if (wert instanceof LocalDateTime) {
+            return ((LocalDateTime) wert).toLocalTime();
+        } else if (wert instanceof ZonedDateTime) {
+            return ((ZonedDateTime) wert).toLocalTime();
+        } else if (wert instanceof OffsetDateTime) {
+            return ((OffsetDateTime) wert).toLocalTime();
+        } else if (wert instanceof OffsetTime) {
+            return ((OffsetTime) wert).toLocalTime();
+        }
+        return null;
+    }
+
+    /**
+     * Liefert den Offset eines Wertes mit Datum und Zeit oder null.
+     */
+    private static ZoneOffset offset(TemporalAccessor wert) {
+        if (wert instanceof ZonedDateTime) {
+            return ((ZonedDateTime) wert).getOffset();
+        } else if (wert instanceof OffsetDateTime) {
+            return ((OffsetDateTime) wert).getOffset();
+        }
+        return null;
+    }
+
+    /**
+     * Schreibt ein Datum mit einem Jahr von 0 bis 9999 im Format {@code dd.MM.uuuu}.
+     */
+    static int datum(LocalDate datum, byte[] ziel, int pos) {
+        int jahr = datum.getYear();
+        zweiZiffern(datum.getDayOfMonth(), ziel, pos);
+        ziel[pos + 2] = '.';
+        zweiZiffern(datum.getMonthValue(), ziel, pos + 3);
+        ziel[pos + 5] = '.';
+        zweiZiffern(jahr / 100, ziel, pos + 6);
+        zweiZiffern(jahr % 100, ziel, pos + 8);
+        return pos + 10;
+    }
+
+    /**
+     * Schreibt eine Zeit im Format {@code HH:mm:ss} bzw. ohne Sekunden im Format {@code HH:mm}.
+     */
+    static int zeit(LocalTime zeit, boolean sekunden, byte[] ziel, int pos) {
+        zweiZiffern(zeit.getHour(), ziel, pos);
+        ziel[pos + 2] = ':';
+        zweiZiffern(zeit.getMinute(), ziel, pos + 3);
+        if (!sekunden) {
+            return pos + 5;
+        }
+        ziel[pos + 5] = ':';
+        zweiZiffern(zeit.getSecond(), ziel, pos + 6);
+        return pos + 8;
+    }
+
+    /**
+     * Schreibt Datum und Zeit im Format {@code dd.MM.uuuu HH:mm:ss}.
+     */
+    static int datumZeit(LocalDate datum, LocalTime zeit, byte[] ziel, int pos) {
+        int zeitAnfang = datum(datum, ziel, pos) + 1;
+        ziel[zeitAnfang - 1] = ' ';
+        return zeit(zeit, true, ziel, zeitAnfang);
+    }
+
+    /**
+     * Schreibt ein Leerzeichen und danach einen Offset in ganzen Minuten im Format {@code xxx}, z.B.
+     * {@code +02:00}.
+     */
+    static int offset(ZoneOffset offset, byte[] ziel, int pos) {
+        int sekunden = offset.getTotalSeconds();
+        int minuten = Math.abs(sekunden / 60);
+        ziel[pos] = ' ';
+        ziel[pos + 1] = (byte) (sekunden < 0 ? '-' : '+');
+        zweiZiffern(minuten / 60, ziel, pos + 2);
+        ziel[pos + 4] = ':';
+        zweiZiffern(minuten % 60, ziel, pos + 5);
+        return pos + 7;
+    }
+
+    /**
+     * Schreibt eine Zahl von 0 bis 99 mit zwei Ziffern.
+     */
+    static void zweiZiffern(int wert, byte[] ziel, int pos) {
+        ziel[pos] = (byte) ('0' + wert / 10);
+        ziel[pos + 1] = (byte) ('0' + wert % 10);
+    }
+
+    /**
+     * Hängt ein Datum mit einem Jahr von 0 bis 9999 im Format {@code dd.MM.uuuu} an.
+     */
+    static void datum(LocalDate datum, Appendable ziel) throws IOException {
+        int jahr = datum.getYear();
+        zweiZiffern(datum.getDayOfMonth(), ziel);
+        ziel.append('.');
+        zweiZiffern(datum.getMonthValue(), ziel);
+        ziel.append('.');
+        zweiZiffern(jahr / 100, ziel);
+        zweiZiffern(jahr % 100, ziel);
+    }
+
+    /**
+     * Hängt eine Zeit im Format {@code HH:mm:ss} bzw. ohne Sekunden im Format {@code HH:mm} an.
+     */
+    static void zeit(LocalTime zeit, boolean sekunden, Appendable ziel) throws IOException {
+        zweiZiffern(zeit.getHour(), ziel);
+        ziel.append(':');
+        zweiZiffern(zeit.getMinute(), ziel);
+        if (sekunden) {
+            ziel.append(':');
+            zweiZiffern(zeit.getSecond(), ziel);
+        }
+    }
+
+    /**
+     * Hängt Datum und Zeit im Format {@code dd.MM.uuuu HH:mm:ss} an.
+     */
+    static void datumZeit(LocalDate datum, LocalTime zeit, Appendable ziel) throws IOException {
+        datum(datum, ziel);
+        ziel.append(' ');
+        zeit(zeit, true, ziel);
+    }
+
+    /**
+     * Hängt ein Leerzeichen und danach einen Offset in ganzen Minuten im Format {@code xxx} an.
+     */
+    static void offset(ZoneOffset offset, Appendable ziel) throws IOException {
+        int sekunden = offset.getTotalSeconds();
+        int minuten = Math.abs(sekunden / 60);
+        ziel.append(' ').append(sekunden < 0 ? '-' : '+');
+        zweiZiffern(minuten / 60, ziel);
+        ziel.append(':');
+        zweiZiffern(minuten % 60, ziel);
+    }
+
+    /**
+     * Hängt eine Zahl von 0 bis 99 mit zwei Ziffern an.
+     */
+    static void zweiZiffern(int wert, Appendable ziel) throws IOException {
+        ziel.append((char) ('0' + wert / 10)).append((char) ('0' + wert % 10));
+    }
+}
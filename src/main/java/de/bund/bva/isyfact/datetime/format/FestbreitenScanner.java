@@ -0,0 +1,134 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Scanner für Eingaben mit fester Breite im Format {@code dd.MM.uuuu} ({@link InFormat#DATUM_DD_MM_YYYY}) und
+ * {@code HH:mm:ss} ({@link InFormat#ZEIT_0H_SEK}).
+ * <p>
+ * Acht Zeichen werden als Bytes in einen {@code long} geladen (Zeichen {@code i} in den Bits {@code 8i} bis
+ * {@code 8i + 7}) und mit wenigen Rechenoperationen auf dem ganzen {@code long} gleichzeitig geprüft und
+ * dekodiert (SWAR, "SIMD within a register"), statt jedes Zeichen einzeln zu behandeln:
+ * <ul>
+ * <li>Trennzeichen müssen exakt übereinstimmen, bei Ziffern muss das obere Halbbyte {@code 3} sein und darf
+ * auch nach Addition von 6 nicht überlaufen ({@code 0x30} bis {@code 0x39}).</li>
+ * <li>Nach Abzug des Musters stehen die Ziffernwerte in den Bytes, die Trennzeichen sind 0.
+ * {@code x * 10 + (x >>> 8)} liefert in einem Byte je zwei Ziffern den zweistelligen Wert.</li>
+ * </ul>
+ * Der Scanner liefert nur gültige Werte. Alles andere, auch Werte außerhalb des Wertebereichs, wird mit
+ * {@link DatumZeitScanner#UNGUELTIG} abgelehnt und vom {@link DatumZeitScanner} wie bisher ausgewertet.
+ */
+final class FestbreitenScanner {
+
+    /**
+     * Oberes Halbbyte der Ziffern und die Trennzeichen an den Positionen 2 und 5.
+     */
+    private static final long MASKE = 0xF0F0FFF0F0FFF0F0L;
+
+    /**
+     * Das Muster {@code 00.00.00}.
+     */
+    private static final long DATUM_MUSTER = 0x30302E30302E3030L;
+
+    /**
+     * Das Muster {@code 00:00:00}.
+     */
+    private static final long ZEIT_MUSTER = 0x30303A30303A3030L;
+
+    /**
+     * Summand, bei dem Ziffern größer als 9 in das obere Halbbyte überlaufen.
+     */
+    private static final long SECHS = 0x0606000606000606L;
+
+    private static final long ZIFFERN_OBEN = 0xF0F000F0F000F0F0L;
+
+    private static final long ZIFFERN_NULL = 0x3030003030003030L;
+
+    private FestbreitenScanner() {
+    }
+
+    /**
+     * Liest ein Datum im Format {@code dd.MM.uuuu} aus den zehn Zeichen ab {@code von}.
+     *
+     * @return das Datum in gepackter Form wie bei {@link DatumZeitScanner#scanneDatum(CharSequence, int, int)}
+     * oder {@link DatumZeitScanner#UNGUELTIG}
+     */
+    static int scanneDatum(CharSequence text, int von) {
+        long zeichen = lade(text, von);
+        char jahr3 = text.charAt(von + 8);
+        char jahr4 = text.charAt(von + 9);
+        if (!passt(zeichen, DATUM_MUSTER) || jahr3 < '0' || jahr3 > '9' || jahr4 < '0' || jahr4 > '9') {
+            return DatumZeitScanner.UNGUELTIG;
+        }
+
+        long paare = paare(zeichen - DATUM_MUSTER);
+        int tag = (int) paare & 0xFF;
+        int monat = (int) (paare >>> 24) & 0xFF;
+        int jahr = ((int) (paare >>> 48) & 0xFF) * 100 + (jahr3 - '0') * 10 + jahr4 - '0';
+        if (monat < 1 || monat > 12 || tag < 1 || tag > 31) {
+            return DatumZeitScanner.UNGUELTIG;
+        }
+        return (jahr << 9) | (monat << 5) | Math.min(tag, Month.of(monat).length(Year.isLeap(jahr)));
+    }
+
+    /**
+     * Liest eine Zeit im Format {@code HH:mm:ss} aus den acht Zeichen ab {@code von}.
+     *
+     * @return die Sekunde des Tages oder {@link DatumZeitScanner#UNGUELTIG}
+     */
+    static int scanneZeit(CharSequence text, int von) {
+        long zeichen = lade(text, von);
+        if (!passt(zeichen, ZEIT_MUSTER)) {
+            return DatumZeitScanner.UNGUELTIG;
+        }
+
+        long paare = paare(zeichen - ZEIT_MUSTER);
+        int stunde = (int) paare & 0xFF;
+        int minute = (int) (paare >>> 24) & 0xFF;
+        int sekunde = (int) (paare >>> 48) & 0xFF;
+        if (stunde > 23 || minute > 59 || sekunde > 59) {
+            return DatumZeitScanner.UNGUELTIG;
+        }
+        return stunde * 3600 + minute * 60 + sekunde;
+    }
+
+    /**
+     * Prüft alle acht Zeichen auf einmal gegen ein Muster aus Ziffern und Trennzeichen.
+     */
+    private static boolean passt(long zeichen, long muster) {
+        return ((zeichen & MASKE) == muster) & (((zeichen + SECHS) & ZIFFERN_OBEN) == ZIFFERN_NULL);
+    }
+
+    /**
+     * Fasst je zwei Ziffernwerte zusammen. Das Ergebnis enthält die Werte der Zeichen 0-1, 3-4 und 6-7 in
+     * den Bytes 0, 3 und 6.
+     */
+    private static long paare(long ziffern) {
+        return ziffern * 10 + (ziffern >>> 8);
+    }
+
+    /**
+     * Lädt acht Zeichen ab {@code pos} in einen {@code long}. Enthalten die Zeichen Nicht-ASCII-Zeichen, ist
+     * das Ergebnis 0 und passt zu keinem Muster.
+     */
+    private static long lade(CharSequence text, int pos) {
+        if (text instanceof AsciiZeichenfolge) {
+            return ((AsciiZeichenfolge) text).achtZeichen(pos);
+        }
+
+        char c0 = text.charAt(pos);
+        char c1 = text.charAt(pos + 1);
+        char c2 = text.charAt(pos + 2);
+        char c3 = text.charAt(pos + 3);
+        char c4 = text.charAt(pos + 4);
+        char c5 = text.charAt(pos + 5);
+        char c6 = text.charAt(pos + 6);
+        char c7 = text.charAt(pos + 7);
+        if (((c0 | c1 | c2 | c3 | c4 | c5 | c6 | c7) & 0xFF80) != 0) {
+            return 0;
+        }
+        return c0 | c1 << 8 | c2 << 16 | (long) c3 << 24 | (long) c4 << 32 | (long) c5 << 40 | (long) c6 << 48
+            | (long) c7 << 56;
+    }
+}
@@ -1,5 +1,8 @@
 package de.bund.bva.isyfact.datetime.format;
 
+import java.nio.ByteBuffer;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -7,19 +10,15 @@ import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.OffsetTime;
 import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
-import java.time.temporal.ChronoUnit;
-import java.util.Arrays;
-import java.util.EnumMap;
-import java.util.List;
-import java.util.Map;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Optional;
 
 /**
  * Klasse zur formatierten Eingabe von Datums-, Zeitwerten und Dauern.
@@ -246,6 +245,16 @@ public abstract class InFormat {
     private static final DateTimeFormatter datumZeitFormatter = DateTimeFormatter
         .ofPattern("d[d].M[M].[u][uu][uuu][uuuu] H[H]:mm[:ss[.SSSSSSSSS][.SSSSSS][.SSS]][ xxx][ z]");
 
+    /**
+     * Abkürzungen der Zeiteinheiten einer {@link Period} (Jahre, Monate, Tage).
+     */
+    private static final String[] PERIOD_EINHEITEN = { "a", "M", "d" };
+
+    /**
+     * Abkürzungen der Zeiteinheiten einer {@link Duration} (Stunden, Minuten, Sekunden, Millisekunden).
+     */
+    private static final String[] DURATION_EINHEITEN = { "h", "min", "s", "ms" };
+
     /**
      * Parst einen String in eine {@code LocalTime}.
      *
@@ -256,7 +265,69 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static LocalTime parseToLocalTime(String text) {
-        return zeitFormatter.parse(text, LocalTime::from);
+        return parseToLocalTime(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@code LocalTime}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalTime(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static LocalTime parseToLocalTime(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return localTime(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in eine {@code LocalTime}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static LocalTime parseToLocalTime(byte[] ascii, int offset, int laenge) {
+        return parseToLocalTime(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in eine {@code LocalTime},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalTime parseToLocalTime(ByteBuffer ascii) {
+        return parseToLocalTime(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
     }
 
     /**
@@ -269,7 +340,69 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static OffsetTime parseToOffsetTime(String text) {
-        return zeitFormatter.parse(text, OffsetTime::from);
+        return parseToOffsetTime(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@code OffsetTime}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetTime(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static OffsetTime parseToOffsetTime(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return offsetTime(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in eine {@code OffsetTime}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static OffsetTime parseToOffsetTime(byte[] ascii, int offset, int laenge) {
+        return parseToOffsetTime(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in eine {@code OffsetTime},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static OffsetTime parseToOffsetTime(ByteBuffer ascii) {
+        return parseToOffsetTime(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
     }
 
     /**
@@ -282,7 +415,69 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static LocalDate parseToLocalDate(String text) {
-        return datumFormatter.parse(text, LocalDate::from);
+        return parseToLocalDate(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in ein {@link LocalDate}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDate(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static LocalDate parseToLocalDate(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return localDate(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in ein {@link LocalDate}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDate(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static LocalDate parseToLocalDate(byte[] ascii, int offset, int laenge) {
+        return parseToLocalDate(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in ein {@link LocalDate},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDate(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDate parseToLocalDate(ByteBuffer ascii) {
+        return parseToLocalDate(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
     }
 
     /**
@@ -295,7 +490,69 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static LocalDateTime parseToLocalDateTime(String text) {
-        return datumZeitFormatter.parse(text, LocalDateTime::from);
+        return parseToLocalDateTime(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@link LocalDateTime}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDateTime(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static LocalDateTime parseToLocalDateTime(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return localDateTime(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in eine {@link LocalDateTime}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static LocalDateTime parseToLocalDateTime(byte[] ascii, int offset, int laenge) {
+        return parseToLocalDateTime(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in eine {@link LocalDateTime},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDateTime parseToLocalDateTime(ByteBuffer ascii) {
+        return parseToLocalDateTime(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
     }
 
     /**
@@ -308,7 +565,69 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static OffsetDateTime parseToOffsetDateTime(String text) {
-        return datumZeitFormatter.parse(text, OffsetDateTime::from);
+        return parseToOffsetDateTime(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@link OffsetDateTime}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetDateTime(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static OffsetDateTime parseToOffsetDateTime(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return offsetDateTime(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in eine {@link OffsetDateTime}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static OffsetDateTime parseToOffsetDateTime(byte[] ascii, int offset, int laenge) {
+        return parseToOffsetDateTime(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in eine {@link OffsetDateTime},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static OffsetDateTime parseToOffsetDateTime(ByteBuffer ascii) {
+        return parseToOffsetDateTime(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
     }
 
     /**
@@ -321,7 +640,385 @@ public abstract class InFormat {
      *     wenn die Eingabe nicht geparst werden kann
      */
     public static ZonedDateTime parseToZonedDateTime(String text) {
-        return datumZeitFormatter.parse(text, ZonedDateTime::from);
+        return parseToZonedDateTime(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@link ZonedDateTime}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToZonedDateTime(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static ZonedDateTime parseToZonedDateTime(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return zonedDateTime(text, von, bis, true);
+    }
+
+    /**
+     * Parst ASCII-kodierte Bytes in eine {@link ZonedDateTime}, ohne sie in einen String umzuwandeln.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToZonedDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zu {@code offset}.
+     *
+     * @param ascii
+     *     die Bytes, die geparst werden sollen, nicht null
+     * @param offset
+     *     Position des ersten Bytes
+     * @param laenge
+     *     Anzahl der Bytes
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Arrays liegt
+     */
+    public static ZonedDateTime parseToZonedDateTime(byte[] ascii, int offset, int laenge) {
+        return parseToZonedDateTime(AsciiZeichenfolge.von(ascii, offset, laenge), 0, laenge);
+    }
+
+    /**
+     * Parst die verbleibenden ASCII-kodierten Bytes eines {@link ByteBuffer} in eine {@link ZonedDateTime},
+     * ohne sie in einen String umzuwandeln. Die Position des Puffers wird nicht verändert.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToZonedDateTime(String)} für die als ASCII gelesenen Bytes.
+     * Der Fehlerindex einer {@link DateTimeParseException} ist relativ zur Position des Puffers.
+     *
+     * @param ascii
+     *     der Puffer, dessen Bytes von der Position bis zum Limit geparst werden sollen, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static ZonedDateTime parseToZonedDateTime(ByteBuffer ascii) {
+        return parseToZonedDateTime(AsciiZeichenfolge.von(ascii), 0, ascii.remaining());
+    }
+
+    /**
+     * Parst eine {@code LocalTime}. Liefert null statt eine Exception zu werfen, wenn {@code werfen} false ist
+     * und die Eingabe nicht geparst werden kann. Dies gilt auch für die folgenden Methoden.
+     */
+    static LocalTime localTime(CharSequence text, int von, int bis, boolean werfen) {
+        int ende = DatumZeitScanner.leerzeichen(text, von, bis);
+        long zeit = DatumZeitScanner.scanneZeit(text, von, ende);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, ende, bis);
+        if (!werfen && zeit == DatumZeitScanner.FEHLERHAFT) {
+            return null;
+        }
+        if (zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG) {
+            return parse(zeitFormatter, text, von, bis, LocalTime::from, werfen);
+        }
+        return DatumZeitScanner.toLocalTime(zeit);
+    }
+
+    static OffsetTime offsetTime(CharSequence text, int von, int bis, boolean werfen) {
+        int ende = DatumZeitScanner.leerzeichen(text, von, bis);
+        long zeit = DatumZeitScanner.scanneZeit(text, von, ende);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, ende, bis);
+        if (!werfen && zeit == DatumZeitScanner.FEHLERHAFT) {
+            return null;
+        }
+        if (zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG || offset == DatumZeitScanner.OHNE_OFFSET
+            || DatumZeitScanner.istZone(offset)) {
+            return parse(zeitFormatter, text, von, bis, OffsetTime::from, werfen);
+        }
+        return OffsetTime.of(DatumZeitScanner.toLocalTime(zeit), ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    static LocalDate localDate(CharSequence text, int von, int bis, boolean werfen) {
+        int datum = DatumZeitScanner.scanneDatum(text, von, bis);
+        if (!werfen && datum == DatumZeitScanner.FEHLERHAFT) {
+            return null;
+        }
+        if (datum < 0) {
+            return parse(datumFormatter, text, von, bis, LocalDate::from, werfen);
+        }
+        return DatumZeitScanner.toLocalDate(datum);
+    }
+
+    static LocalDateTime localDateTime(CharSequence text, int von, int bis, boolean werfen) {
+        int datumEnde = DatumZeitScanner.leerzeichen(text, von, bis);
+        int zeitEnde = DatumZeitScanner.zeitEnde(text, datumEnde, bis);
+        int datum = DatumZeitScanner.scanneDatum(text, von, datumEnde);
+        long zeit = DatumZeitScanner.scanneZeitNachDatum(text, datumEnde, zeitEnde);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, zeitEnde, bis);
+        if (!werfen && (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT)) {
+            return null;
+        }
+        if (datum < 0 || zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG) {
+            return parse(datumZeitFormatter, text, von, bis, LocalDateTime::from, werfen);
+        }
+        return LocalDateTime.of(DatumZeitScanner.toLocalDate(datum), DatumZeitScanner.toLocalTime(zeit));
+    }
+
+    static OffsetDateTime offsetDateTime(CharSequence text, int von, int bis, boolean werfen) {
+        int datumEnde = DatumZeitScanner.leerzeichen(text, von, bis);
+        int zeitEnde = DatumZeitScanner.zeitEnde(text, datumEnde, bis);
+        int datum = DatumZeitScanner.scanneDatum(text, von, datumEnde);
+        long zeit = DatumZeitScanner.scanneZeitNachDatum(text, datumEnde, zeitEnde);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, zeitEnde, bis);
+        if (!werfen && (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT)) {
+            return null;
+        }
+        if (datum < 0 || zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG
+            || offset == DatumZeitScanner.OHNE_OFFSET || DatumZeitScanner.istZone(offset)) {
+            return parse(datumZeitFormatter, text, von, bis, OffsetDateTime::from, werfen);
+        }
+        return OffsetDateTime.of(DatumZeitScanner.toLocalDate(datum), DatumZeitScanner.toLocalTime(zeit),
+            ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    static ZonedDateTime zonedDateTime(CharSequence text, int von, int bis, boolean werfen) {
+        int datumEnde = DatumZeitScanner.leerzeichen(text, von, bis);
+        int zeitEnde = DatumZeitScanner.zeitEnde(text, datumEnde, bis);
+        int datum = DatumZeitScanner.scanneDatum(text, von, datumEnde);
+        long zeit = DatumZeitScanner.scanneZeitNachDatum(text, datumEnde, zeitEnde);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, zeitEnde, bis);
+        if (!werfen && (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT)) {
+            return null;
+        }
+        if (datum < 0 || zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG
+            || offset == DatumZeitScanner.OHNE_OFFSET) {
+            return parse(datumZeitFormatter, text, von, bis, ZonedDateTime::from, werfen);
+        }
+        ZoneId zone = DatumZeitScanner.istZone(offset) ? DatumZeitScanner.zone(offset)
+            : ZoneOffset.ofTotalSeconds(offset);
+        return ZonedDateTime.of(DatumZeitScanner.toLocalDate(datum), DatumZeitScanner.toLocalTime(zeit), zone);
+    }
+
+    /**
+     * Parst einen Bereich des Textes mit dem {@link DateTimeFormatter}, wenn der {@link DatumZeitScanner} die
+     * Eingabe nicht erkannt hat.
+     * <p>
+     * Ist {@code werfen} false, prüft {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}
+     * zunächst ohne Exception, ob der Text vollständig gelesen werden kann. Nur bei Werten außerhalb des
+     * Wertebereichs, z.B. beim Datum {@code 099.1.2017} oder beim Offset {@code +25:00}, wird eine Exception
+     * gefangen.
+     *
+     * @return das Ergebnis oder null, wenn {@code werfen} false ist und die Eingabe nicht geparst werden kann
+     */
+    private static <T> T parse(DateTimeFormatter formatter, CharSequence text, int von, int bis,
+        TemporalQuery<T> query, boolean werfen) {
+        CharSequence eingabe = text.subSequence(von, bis);
+        if (werfen) {
+            return formatter.parse(eingabe, query);
+        }
+
+        try {
+            ParsePosition position = new ParsePosition(0);
+            TemporalAccessor gelesen = formatter.parseUnresolved(eingabe, position);
+            if (gelesen == null || position.getIndex() < eingabe.length()) {
+                return null;
+            }
+            return formatter.parse(eingabe, query);
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Parst einen String im ISO-Format {@code uuuu-MM-dd} in ein {@link LocalDate}.
+     * <p>
+     * Das Ergebnis entspricht {@link LocalDate#parse(CharSequence)} mit
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDate parseIsoToLocalDate(String text) {
+        return isoLocalDate(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parst einen String im ISO-Format {@code HH:mm[:ss[.S...]]} in eine {@link LocalTime}.
+     * <p>
+     * Das Ergebnis entspricht {@link LocalTime#parse(CharSequence)} mit
+     * {@link DateTimeFormatter#ISO_LOCAL_TIME}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalTime parseIsoToLocalTime(String text) {
+        return isoLocalTime(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parst einen String im ISO-Format {@code uuuu-MM-ddTHH:mm[:ss[.S...]]} in eine {@link LocalDateTime}.
+     * <p>
+     * Das Ergebnis entspricht {@link LocalDateTime#parse(CharSequence)} mit
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDateTime parseIsoToLocalDateTime(String text) {
+        return isoLocalDateTime(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parst einen String im ISO-Format {@code uuuu-MM-ddTHH:mm[:ss[.S...]]} mit Offset (z.B. {@code +02:00}
+     * oder {@code Z}) in eine {@link OffsetDateTime}.
+     * <p>
+     * Das Ergebnis entspricht {@link OffsetDateTime#parse(CharSequence)} mit
+     * {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static OffsetDateTime parseIsoToOffsetDateTime(String text) {
+        return isoOffsetDateTime(text, 0, text.length(), true);
+    }
+
+    /**
+     * Parst einen String im deutschen Format oder im ISO-Format in ein {@link LocalDate}.
+     * <p>
+     * Das Format wird am ersten Trennzeichen nach den Ziffern am Anfang erkannt: Bei {@code -} oder einem
+     * Vorzeichen wird wie {@link #parseIsoToLocalDate(String)} geparst,
+     * sonst wie {@link #parseToLocalDate(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDate parseDeOderIsoToLocalDate(String text) {
+        return istIso(text) ? parseIsoToLocalDate(text) : parseToLocalDate(text);
+    }
+
+    /**
+     * Parst einen String im deutschen Format oder im ISO-Format in eine {@link LocalDateTime}.
+     * <p>
+     * Das Format wird am ersten Trennzeichen nach den Ziffern am Anfang erkannt: Bei {@code -} oder einem
+     * Vorzeichen wird wie {@link #parseIsoToLocalDateTime(String)} geparst,
+     * sonst wie {@link #parseToLocalDateTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static LocalDateTime parseDeOderIsoToLocalDateTime(String text) {
+        return istIso(text) ? parseIsoToLocalDateTime(text) : parseToLocalDateTime(text);
+    }
+
+    /**
+     * Parst einen String im deutschen Format oder im ISO-Format in eine {@link OffsetDateTime}.
+     * <p>
+     * Das Format wird am ersten Trennzeichen nach den Ziffern am Anfang erkannt: Bei {@code -} oder einem
+     * Vorzeichen wird wie {@link #parseIsoToOffsetDateTime(String)} geparst,
+     * sonst wie {@link #parseToOffsetDateTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     */
+    public static OffsetDateTime parseDeOderIsoToOffsetDateTime(String text) {
+        return istIso(text) ? parseIsoToOffsetDateTime(text) : parseToOffsetDateTime(text);
+    }
+
+    /**
+     * Prüft, ob das erste Zeichen nach den Ziffern am Anfang des Textes ein {@code -} ist. Ein Vorzeichen am
+     * Anfang (ISO-Jahr mit mehr als vier Stellen) gilt ebenfalls als ISO-Format.
+     */
+    private static boolean istIso(String text) {
+        if (!text.isEmpty() && (text.charAt(0) == '+' || text.charAt(0) == '-')) {
+            return true;
+        }
+        int pos = 0;
+        while (pos < text.length() && text.charAt(pos) >= '0' && text.charAt(pos) <= '9') {
+            pos++;
+        }
+        return pos < text.length() && text.charAt(pos) == '-';
+    }
+
+    static LocalDate isoLocalDate(CharSequence text, int von, int bis, boolean werfen) {
+        int datum = DatumZeitScanner.scanneIsoDatum(text, von, bis);
+        if (!werfen && datum == DatumZeitScanner.FEHLERHAFT) {
+            return null;
+        }
+        if (datum < 0) {
+            return parse(DateTimeFormatter.ISO_LOCAL_DATE, text, von, bis, LocalDate::from, werfen);
+        }
+        return DatumZeitScanner.toLocalDate(datum);
+    }
+
+    static LocalTime isoLocalTime(CharSequence text, int von, int bis, boolean werfen) {
+        long zeit = DatumZeitScanner.scanneIsoZeit(text, von, bis);
+        if (!werfen && zeit == DatumZeitScanner.FEHLERHAFT) {
+            return null;
+        }
+        if (zeit < 0) {
+            return parse(DateTimeFormatter.ISO_LOCAL_TIME, text, von, bis, LocalTime::from, werfen);
+        }
+        return DatumZeitScanner.toLocalTime(zeit);
+    }
+
+    static LocalDateTime isoLocalDateTime(CharSequence text, int von, int bis, boolean werfen) {
+        int datum = isoDatumVorZeit(text, von, bis);
+        long zeit =
+            datum < 0 ? DatumZeitScanner.UNGUELTIG : DatumZeitScanner.scanneIsoZeit(text, von + 11, bis);
+        if (!werfen && (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT)) {
+            return null;
+        }
+        if (datum < 0 || zeit < 0) {
+            return parse(DateTimeFormatter.ISO_LOCAL_DATE_TIME, text, von, bis, LocalDateTime::from, werfen);
+        }
+        return LocalDateTime.of(DatumZeitScanner.toLocalDate(datum), DatumZeitScanner.toLocalTime(zeit));
+    }
+
+    static OffsetDateTime isoOffsetDateTime(CharSequence text, int von, int bis, boolean werfen) {
+        int datum = isoDatumVorZeit(text, von, bis);
+        int zeitEnde = datum < 0 ? bis : DatumZeitScanner.isoZeitEnde(text, von + 11, bis);
+        long zeit =
+            datum < 0 ? DatumZeitScanner.UNGUELTIG : DatumZeitScanner.scanneIsoZeit(text, von + 11, zeitEnde);
+        int offset = zeitEnde < bis ? DatumZeitScanner.scanneIsoOffset(text, zeitEnde, bis)
+            : DatumZeitScanner.OFFSET_UNGUELTIG;
+        if (!werfen && (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT)) {
+            return null;
+        }
+        if (datum < 0 || zeit < 0 || offset == DatumZeitScanner.OFFSET_UNGUELTIG) {
+            return parse(DateTimeFormatter.ISO_OFFSET_DATE_TIME, text, von, bis, OffsetDateTime::from, werfen);
+        }
+        return OffsetDateTime.of(DatumZeitScanner.toLocalDate(datum), DatumZeitScanner.toLocalTime(zeit),
+            ZoneOffset.ofTotalSeconds(offset));
+    }
+
+    /**
+     * Liest das Datum eines ISO-Datum/Zeit-Textes, auf das an Position {@code von + 10} ein {@code T} folgen
+     * muss.
+     */
+    private static int isoDatumVorZeit(CharSequence text, int von, int bis) {
+        if (bis - von < 11 || (text.charAt(von + 10) != 'T' && text.charAt(von + 10) != 't')) {
+            return DatumZeitScanner.UNGUELTIG;
+        }
+        return DatumZeitScanner.scanneIsoDatum(text, von, von + 10);
     }
 
     /**
@@ -339,15 +1036,31 @@ public abstract class InFormat {
     public static Period parseToPeriod(String text) {
         Objects.requireNonNull(text);
 
-        ConcurrentMap<ChronoUnit, Pattern> einheitenPattern = new ConcurrentHashMap<>();
-        einheitenPattern.put(ChronoUnit.YEARS, Pattern.compile("(\\d+)a"));
-        einheitenPattern.put(ChronoUnit.MONTHS, Pattern.compile("(\\d+)M"));
-        einheitenPattern.put(ChronoUnit.DAYS, Pattern.compile("(\\d+)d"));
+        return parseToPeriod(text, 0, text.length());
+    }
 
-        Map<ChronoUnit, Integer> einheitenWerte = parseDauer(text, einheitenPattern);
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@link Period}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToPeriod(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die geparste Period, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann oder Zeiteinheiten &gt;
+     *     Stunden enthalten sind
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static Period parseToPeriod(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
 
-        return Period.of(einheitenWerte.get(ChronoUnit.YEARS), einheitenWerte.get(ChronoUnit.MONTHS),
-            einheitenWerte.get(ChronoUnit.DAYS));
+        return period(text, von, bis, true);
     }
 
     /**
@@ -364,45 +1077,288 @@ public abstract class InFormat {
     public static Duration parseToDuration(String text) {
         Objects.requireNonNull(text);
 
-        ConcurrentMap<ChronoUnit, Pattern> einheitenPattern = new ConcurrentHashMap<>();
-        einheitenPattern.put(ChronoUnit.HOURS, Pattern.compile("(\\d+)h"));
-        einheitenPattern.put(ChronoUnit.MINUTES, Pattern.compile("(\\d+)min"));
-        einheitenPattern.put(ChronoUnit.SECONDS, Pattern.compile("(\\d+)s"));
-        einheitenPattern.put(ChronoUnit.MILLIS, Pattern.compile("(\\d+)ms"));
+        return parseToDuration(text, 0, text.length());
+    }
+
+    /**
+     * Parst einen Bereich einer Zeichenkette in eine {@link Duration}, ohne den Bereich zu kopieren.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToDuration(String)} für {@code text.subSequence(von, bis)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die geparste {@link Duration}, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe nicht geparst werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn der Bereich nicht innerhalb des Textes liegt
+     */
+    public static Duration parseToDuration(CharSequence text, int von, int bis) {
+        Objects.checkFromToIndex(von, bis, text.length());
+
+        return duration(text, von, bis, true);
+    }
 
-        Map<ChronoUnit, Integer> einheitenWerte = parseDauer(text, einheitenPattern);
+    /**
+     * Parst einen String in eine {@code LocalTime}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalTime(String)}. Gültige Eingaben und Eingaben mit ungültigen
+     * Werten in der üblichen Schreibweise (z.B. {@code 25:00}) werden ohne Exception erkannt.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste Zeit oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden kann
+     */
+    public static Optional<LocalTime> tryParseToLocalTime(String text) {
+        return Optional.ofNullable(localTime(text, 0, text.length(), false));
+    }
 
-        return Duration.ofHours(einheitenWerte.get(ChronoUnit.HOURS))
-            .plusMinutes(einheitenWerte.get(ChronoUnit.MINUTES))
-            .plusSeconds(einheitenWerte.get(ChronoUnit.SECONDS))
-            .plusMillis(einheitenWerte.get(ChronoUnit.MILLIS));
+    /**
+     * Parst einen String in eine {@code OffsetTime}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste Zeit oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden kann
+     */
+    public static Optional<OffsetTime> tryParseToOffsetTime(String text) {
+        return Optional.ofNullable(offsetTime(text, 0, text.length(), false));
     }
 
-    private static Map<ChronoUnit, Integer> parseDauer(String s,
-        ConcurrentMap<ChronoUnit, Pattern> einheitenPattern) {
+    /**
+     * Parst einen String in ein {@link LocalDate}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDate(String)}. Gültige Eingaben und Eingaben mit ungültigen
+     * Werten in der üblichen Schreibweise (z.B. {@code 32.1.2017}) werden ohne Exception erkannt.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden kann
+     */
+    public static Optional<LocalDate> tryParseToLocalDate(String text) {
+        return Optional.ofNullable(localDate(text, 0, text.length(), false));
+    }
+
+    /**
+     * Parst einen String in eine {@link LocalDateTime}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToLocalDateTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden
+     * kann
+     */
+    public static Optional<LocalDateTime> tryParseToLocalDateTime(String text) {
+        return Optional.ofNullable(localDateTime(text, 0, text.length(), false));
+    }
 
-        List<String> teile = Arrays.asList(s.trim().split("\\s+"));
+    /**
+     * Parst einen String in eine {@link OffsetDateTime}, ohne bei ungültigen Eingaben eine Exception zu
+     * werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToOffsetDateTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden
+     * kann
+     */
+    public static Optional<OffsetDateTime> tryParseToOffsetDateTime(String text) {
+        return Optional.ofNullable(offsetDateTime(text, 0, text.length(), false));
+    }
 
-        Map<ChronoUnit, Integer> einheitenWerte = new EnumMap<>(ChronoUnit.class);
-        einheitenPattern.forEach((einheit, v) -> einheitenWerte.put(einheit, 0));
+    /**
+     * Parst einen String in eine {@link ZonedDateTime}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToZonedDateTime(String)}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden
+     * kann
+     */
+    public static Optional<ZonedDateTime> tryParseToZonedDateTime(String text) {
+        return Optional.ofNullable(zonedDateTime(text, 0, text.length(), false));
+    }
 
-        for (String teil : teile) {
-            boolean noMatch = true;
-            for (Map.Entry<ChronoUnit, Pattern> einheit : einheitenPattern.entrySet()) {
-                Matcher matcher = einheit.getValue().matcher(teil);
-                if (matcher.matches()) {
-                    einheitenPattern.remove(einheit.getKey());
-                    einheitenWerte.put(einheit.getKey(), Integer.parseInt(matcher.group(1)));
-                    noMatch = false;
-                    break;
+    /**
+     * Parst einen String in eine {@link Period}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToPeriod(String)}. Anzahlen außerhalb des Wertebereichs von
+     * {@code int} führen ebenfalls zu einem leeren {@link Optional}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste Period oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst werden kann
+     */
+    public static Optional<Period> tryParseToPeriod(String text) {
+        return Optional.ofNullable(period(text, 0, text.length(), false));
+    }
+
+    /**
+     * Parst einen String in eine {@link Duration}, ohne bei ungültigen Eingaben eine Exception zu werfen.
+     * <p>
+     * Das Ergebnis entspricht {@link #parseToDuration(String)}. Anzahlen außerhalb des Wertebereichs von
+     * {@code int} führen ebenfalls zu einem leeren {@link Optional}.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return die geparste {@link Duration} oder ein leeres {@link Optional}, wenn die Eingabe nicht geparst
+     * werden kann
+     */
+    public static Optional<Duration> tryParseToDuration(String text) {
+        return Optional.ofNullable(duration(text, 0, text.length(), false));
+    }
+
+    /**
+     * Parst eine {@link Period}. Liefert null statt eine Exception zu werfen, wenn {@code werfen} false ist
+     * und die Eingabe nicht geparst werden kann.
+     */
+    static Period period(CharSequence text, int von, int bis, boolean werfen) {
+        int[] einheitenWerte = parseDauer(text, von, bis, PERIOD_EINHEITEN, werfen);
+        if (einheitenWerte == null) {
+            return null;
+        }
+        return Period.of(einheitenWerte[0], einheitenWerte[1], einheitenWerte[2]);
+    }
+
+    /**
+     * Parst eine {@link Duration}. Liefert null statt eine Exception zu werfen, wenn {@code werfen} false ist
+     * und die Eingabe nicht geparst werden kann.
+     */
+    static Duration duration(CharSequence text, int von, int bis, boolean werfen) {
+        int[] einheitenWerte = parseDauer(text, von, bis, DURATION_EINHEITEN, werfen);
+        if (einheitenWerte == null) {
+            return null;
+        }
+        return Duration.ofHours(einheitenWerte[0]).plusMinutes(einheitenWerte[1])
+            .plusSeconds(einheitenWerte[2]).plusMillis(einheitenWerte[3]);
+    }
+
+    /**
+     * Zerlegt einen Dauer String in einem Durchlauf in seine Teile {@code <Anzahl><Zeiteinheit>}.
+     * <p>
+     * Die Teile sind durch Leerraum getrennt, jede Zeiteinheit darf höchstens einmal vorkommen. Bei einem
+     * ungültigen Teil ist der Fehlerindex die erste Fundstelle des Teils im Text.
+     *
+     * @param text
+     *     der Text mit dem Dauer String
+     * @param von
+     *     Anfang des Dauer Strings (inklusive)
+     * @param bis
+     *     Ende des Dauer Strings (exklusive)
+     * @param einheiten
+     *     die erlaubten Abkürzungen der Zeiteinheiten
+     * @param werfen
+     *     ob bei einer ungültigen Eingabe eine Exception geworfen oder null geliefert wird
+     * @return die Anzahl je Zeiteinheit in der Reihenfolge von {@code einheiten}, 0 für fehlende Zeiteinheiten
+     */
+    private static int[] parseDauer(CharSequence text, int von, int bis, String[] einheiten, boolean werfen) {
+        int[] einheitenWerte = new int[einheiten.length];
+        int gelesen = 0;
+
+        int anfang = von;
+        int ende = bis;
+        while (anfang < ende && text.charAt(anfang) <= ' ') {
+            anfang++;
+        }
+        while (ende > anfang && text.charAt(ende - 1) <= ' ') {
+            ende--;
+        }
+        if (anfang == ende) {
+            if (werfen) {
+                throw new DateTimeParseException(null, text.subSequence(von, bis), 0);
+            }
+            return null;
+        }
+
+        int pos = anfang;
+        while (pos < ende) {
+            int teilAnfang = pos;
+            while (pos < ende && !istLeerraum(text.charAt(pos))) {
+                pos++;
+            }
+            int teilEnde = pos;
+
+            int ziffernEnde = teilAnfang;
+            while (ziffernEnde < teilEnde && text.charAt(ziffernEnde) >= '0'
+                && text.charAt(ziffernEnde) <= '9') {
+                ziffernEnde++;
+            }
+            int einheit = ziffernEnde > teilAnfang ? einheit(text, ziffernEnde, teilEnde, einheiten) : -1;
+            if (einheit < 0 || (gelesen & (1 << einheit)) != 0) {
+                if (werfen) {
+                    String dauer = text.subSequence(von, bis).toString();
+                    String teil = text.subSequence(teilAnfang, teilEnde).toString();
+                    throw new DateTimeParseException(null, dauer, dauer.indexOf(teil));
                 }
+                return null;
             }
+            int anzahl = anzahl(text, teilAnfang, ziffernEnde);
+            if (anzahl < 0) {
+                if (werfen) {
+                    // Dieselbe Exception, die Integer.parseInt für die Anzahl werfen würde.
+                    throw new NumberFormatException(
+                        "For input string: \"" + text.subSequence(teilAnfang, ziffernEnde) + "\"");
+                }
+                return null;
+            }
+            gelesen |= 1 << einheit;
+            einheitenWerte[einheit] = anzahl;
 
-            if (noMatch) {
-                throw new DateTimeParseException(null, s, s.indexOf(teil));
+            while (pos < ende && istLeerraum(text.charAt(pos))) {
+                pos++;
             }
         }
 
         return einheitenWerte;
     }
+
+    private static int einheit(CharSequence text, int von, int bis, String[] einheiten) {
+        for (int i = 0; i < einheiten.length; i++) {
+            if (stimmtUeberein(text, von, bis, einheiten[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean stimmtUeberein(CharSequence text, int von, int bis, String einheit) {
+        if (einheit.length() != bis - von) {
+            return false;
+        }
+        for (int i = 0; i < einheit.length(); i++) {
+            if (text.charAt(von + i) != einheit.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Liest eine Anzahl aus Ziffern. Liefert -1, wenn sie den Wertebereich von {@code int} überschreitet.
+     */
+    private static int anzahl(CharSequence text, int von, int bis) {
+        long anzahl = 0;
+        for (int i = von; i < bis; i++) {
+            anzahl = anzahl * 10 + text.charAt(i) - '0';
+            if (anzahl > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return (int) anzahl;
+    }
+
+    /**
+     * Prüft auf Leerraum im Sinne von {@code \s} in regulären Ausdrücken.
+     */
+    private static boolean istLeerraum(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 }
@@ -0,0 +1,355 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * Prüft die Eingabe eines Datums oder einer Zeit Zeichen für Zeichen, z.B. bei der Validierung eines
+ * Eingabefelds nach jedem Tastendruck.
+ * <p>
+ * Der Parser verarbeitet jedes Zeichen in konstanter Zeit, statt die gesamte Eingabe erneut zu parsen, und
+ * kann das letzte Zeichen wieder zurücknehmen. Nach jedem Zeichen liefert er einen {@link Zustand}:
+ * <ul>
+ * <li>{@link Zustand#GUELTIG_BISHER}: Die bisherige Eingabe kann noch zu einer gültigen Eingabe ergänzt
+ * werden.</li>
+ * <li>{@link Zustand#VOLLSTAENDIG}: Die bisherige Eingabe ist gültig. Das Ergebnis liefert
+ * {@link #getDatum()} bzw. {@link #getZeit()}.</li>
+ * <li>{@link Zustand#UNGUELTIG}: Die Eingabe kann nicht mehr gültig werden. Das erste Zeichen, mit dem sie
+ * ungültig wurde, steht an der Position {@link #getFehlerposition()}.</li>
+ * </ul>
+ * Unterstützt werden die Formate aus der Beschreibung von {@link InFormat}: Datumsangaben im Format
+ * {@code d[d].M[M].[u][uu][uuu][uuuu]} und Zeiten im Format {@code H[H]:mm[:ss[.SSS][.SSSSSS][.SSSSSSSSS]]}
+ * ohne Offset und Zeitzone. Eine vollständige Eingabe liefert dasselbe Ergebnis wie
+ * {@link InFormat#parseToLocalDate(String)} bzw. {@link InFormat#parseToLocalTime(String)}, einschließlich
+ * der Korrektur von Tagen nach dem Monatsende und der Zeit 24:00. Schreibweisen, die der
+ * {@link java.time.format.DateTimeFormatter} darüber hinaus akzeptiert (mehr als zwei Stellen für Tag, Monat
+ * oder Stunde, Jahre mit Vorzeichen oder mit mehr als vier Stellen), gelten als ungültig.
+ * <p>
+ * Eine Instanz gehört zu genau einem Eingabefeld und ist nicht thread-safe.
+ */
+public final class InkrementellerParser {
+
+    /**
+     * Der Zustand der bisherigen Eingabe.
+     */
+    public enum Zustand {
+
+        /**
+         * Die Eingabe ist noch nicht vollständig, kann aber zu einer gültigen Eingabe ergänzt werden.
+         */
+        GUELTIG_BISHER,
+
+        /**
+         * Die Eingabe ist ein gültiges Datum bzw. eine gültige Zeit.
+         */
+        VOLLSTAENDIG,
+
+        /**
+         * Die Eingabe kann nicht mehr zu einer gültigen Eingabe ergänzt werden.
+         */
+        UNGUELTIG
+    }
+
+    /*
+     * Ein Zustand des Automaten ist in einem long gepackt: die Nummer des aktuellen Feldes (Tag, Monat, Jahr
+     * bzw. Stunde, Minute, Sekunde, Sekundenbruchteil), die Anzahl seiner Ziffern, sein bisheriger Wert und
+     * die Werte der abgeschlossenen Felder.
+     */
+
+    private static final int FELD_BITS = 4;
+
+    private static final int ANZAHL_BITS = 4;
+
+    private static final int WERT_BITS = 30;
+
+    private static final int WERT_POSITION = FELD_BITS + ANZAHL_BITS;
+
+    /**
+     * Position des ersten abgeschlossenen Feldes. Jedes abgeschlossene Feld belegt 7 Bits.
+     */
+    private static final int FELDER_POSITION = WERT_POSITION + WERT_BITS;
+
+    private static final long FEHLER = -1;
+
+    private static final int TAG = 0;
+
+    private static final int MONAT = 1;
+
+    private static final int JAHR = 2;
+
+    private static final int STUNDE = 0;
+
+    private static final int MINUTE = 1;
+
+    private static final int SEKUNDE = 2;
+
+    private static final int BRUCHTEIL = 3;
+
+    /**
+     * Maximale Länge einer gültigen Eingabe ({@code dd.MM.uuuu}).
+     */
+    private static final int DATUM_MAX_LAENGE = 10;
+
+    /**
+     * Maximale Länge einer gültigen Eingabe ({@code HH:mm:ss.SSSSSSSSS}).
+     */
+    private static final int ZEIT_MAX_LAENGE = 18;
+
+    private final boolean zeit;
+
+    /**
+     * Die Zustände nach 0, 1, 2, ... Zeichen bis zum ersten ungültigen Zeichen.
+     */
+    private final long[] zustaende;
+
+    private int laenge;
+
+    private int fehlerposition = -1;
+
+    private InkrementellerParser(boolean zeit) {
+        this.zeit = zeit;
+        this.zustaende = new long[(zeit ? ZEIT_MAX_LAENGE : DATUM_MAX_LAENGE) + 1];
+    }
+
+    /**
+     * @return ein Parser für die Eingabe eines Datums
+     */
+    public static InkrementellerParser fuerDatum() {
+        return new InkrementellerParser(false);
+    }
+
+    /**
+     * @return ein Parser für die Eingabe einer Zeit
+     */
+    public static InkrementellerParser fuerZeit() {
+        return new InkrementellerParser(true);
+    }
+
+    /**
+     * Hängt ein Zeichen an die Eingabe an.
+     *
+     * @param zeichen
+     *     das eingegebene Zeichen
+     * @return der Zustand der Eingabe mit dem neuen Zeichen
+     */
+    public Zustand zeichen(char zeichen) {
+        if (fehlerposition < 0) {
+            long naechster = FEHLER;
+            if (laenge + 1 < zustaende.length) {
+                naechster = zeit ? zeitZeichen(zustaende[laenge], zeichen)
+                    : datumZeichen(zustaende[laenge], zeichen);
+            }
+            if (naechster == FEHLER) {
+                fehlerposition = laenge;
+            } else {
+                zustaende[laenge + 1] = naechster;
+            }
+        }
+        laenge++;
+        return getZustand();
+    }
+
+    /**
+     * Nimmt das letzte Zeichen der Eingabe zurück. Ist die Eingabe leer, bleibt sie unverändert.
+     *
+     * @return der Zustand der Eingabe ohne das letzte Zeichen
+     */
+    public Zustand zuruecknehmen() {
+        if (laenge > 0) {
+            laenge--;
+            if (laenge == fehlerposition) {
+                fehlerposition = -1;
+            }
+        }
+        return getZustand();
+    }
+
+    /**
+     * Leert die Eingabe.
+     */
+    public void zuruecksetzen() {
+        laenge = 0;
+        fehlerposition = -1;
+    }
+
+    /**
+     * @return der Zustand der bisherigen Eingabe
+     */
+    public Zustand getZustand() {
+        if (fehlerposition >= 0) {
+            return Zustand.UNGUELTIG;
+        }
+        return istVollstaendig(zustaende[laenge]) ? Zustand.VOLLSTAENDIG : Zustand.GUELTIG_BISHER;
+    }
+
+    /**
+     * @return die Position des ersten Zeichens, mit dem die Eingabe ungültig wurde, oder -1, wenn die Eingabe
+     * nicht ungültig ist
+     */
+    public int getFehlerposition() {
+        return fehlerposition;
+    }
+
+    /**
+     * @return die Anzahl der eingegebenen Zeichen
+     */
+    public int getLaenge() {
+        return laenge;
+    }
+
+    /**
+     * @return das eingegebene Datum
+     * @throws IllegalStateException
+     *     wenn der Parser nicht für ein Datum erstellt wurde oder die Eingabe nicht vollständig ist
+     */
+    public LocalDate getDatum() {
+        if (zeit || getZustand() != Zustand.VOLLSTAENDIG) {
+            throw new IllegalStateException("Die Eingabe ist kein vollständiges Datum.");
+        }
+
+        long zustand = zustaende[laenge];
+        int jahr = wert(zustand);
+        int monat = feld(zustand, MONAT);
+        int tag = Math.min(feld(zustand, TAG), Month.of(monat).length(Year.isLeap(jahr)));
+        return LocalDate.of(jahr, monat, tag);
+    }
+
+    /**
+     * @return die eingegebene Zeit, für die Eingabe 24:00 Mitternacht
+     * @throws IllegalStateException
+     *     wenn der Parser nicht für eine Zeit erstellt wurde oder die Eingabe nicht vollständig ist
+     */
+    public LocalTime getZeit() {
+        if (!zeit || getZustand() != Zustand.VOLLSTAENDIG) {
+            throw new IllegalStateException("Die Eingabe ist keine vollständige Zeit.");
+        }
+
+        long zustand = zustaende[laenge];
+        int stunde = feld(zustand, STUNDE);
+        if (stunde == 24) {
+            return LocalTime.MIDNIGHT;
+        }
+        switch (aktuellesFeld(zustand)) {
+            case MINUTE:
+                return LocalTime.of(stunde, wert(zustand));
+            case SEKUNDE:
+                return LocalTime.of(stunde, feld(zustand, MINUTE), wert(zustand));
+            default:
+                int nano = wert(zustand);
+                for (int i = anzahl(zustand); i < 9; i++) {
+                    nano *= 10;
+                }
+                return LocalTime.of(stunde, feld(zustand, MINUTE), feld(zustand, SEKUNDE), nano);
+        }
+    }
+
+    private boolean istVollstaendig(long zustand) {
+        int anzahl = anzahl(zustand);
+        if (!zeit) {
+            return aktuellesFeld(zustand) == JAHR && anzahl > 0;
+        }
+        switch (aktuellesFeld(zustand)) {
+            case MINUTE:
+            case SEKUNDE:
+                return anzahl == 2;
+            case BRUCHTEIL:
+                return anzahl == 3 || anzahl == 6 || anzahl == 9;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Berechnet den Folgezustand für ein Zeichen eines Datums im Format
+     * {@code d[d].M[M].[u][uu][uuu][uuuu]}.
+     */
+    private static long datumZeichen(long zustand, char zeichen) {
+        int feld = aktuellesFeld(zustand);
+        int anzahl = anzahl(zustand);
+        int wert = wert(zustand);
+
+        if (zeichen == '.') {
+            return feld != JAHR && anzahl > 0 && wert > 0 ? naechstesFeld(zustand) : FEHLER;
+        }
+        if (zeichen < '0' || zeichen > '9') {
+            return FEHLER;
+        }
+
+        int neu = wert * 10 + zeichen - '0';
+        switch (feld) {
+            case TAG:
+                return anzahl == 0 || anzahl == 1 && neu >= 1 && neu <= 31 ? ziffer(zustand, neu) : FEHLER;
+            case MONAT:
+                return anzahl == 0 || anzahl == 1 && neu >= 1 && neu <= 12 ? ziffer(zustand, neu) : FEHLER;
+            default:
+                return anzahl < 4 ? ziffer(zustand, neu) : FEHLER;
+        }
+    }
+
+    /**
+     * Berechnet den Folgezustand für ein Zeichen einer Zeit im Format
+     * {@code H[H]:mm[:ss[.SSS][.SSSSSS][.SSSSSSSSS]]}. Auf die Stunde 24 dürfen nur Nullen folgen.
+     */
+    private static long zeitZeichen(long zustand, char zeichen) {
+        int feld = aktuellesFeld(zustand);
+        int anzahl = anzahl(zustand);
+
+        if (zeichen == ':') {
+            boolean feldEnde = feld == STUNDE && anzahl > 0 || feld == MINUTE && anzahl == 2;
+            return feldEnde ? naechstesFeld(zustand) : FEHLER;
+        }
+        if (zeichen == '.') {
+            return feld == SEKUNDE && anzahl == 2 ? naechstesFeld(zustand) : FEHLER;
+        }
+        if (zeichen < '0' || zeichen > '9') {
+            return FEHLER;
+        }
+
+        int neu = wert(zustand) * 10 + zeichen - '0';
+        if (feld == STUNDE) {
+            return anzahl == 0 || anzahl == 1 && neu <= 24 ? ziffer(zustand, neu) : FEHLER;
+        }
+        if (feld(zustand, STUNDE) == 24 && zeichen != '0') {
+            return FEHLER;
+        }
+        if (feld == BRUCHTEIL) {
+            return anzahl < 9 ? ziffer(zustand, neu) : FEHLER;
+        }
+        return anzahl == 0 && zeichen <= '5' || anzahl == 1 ? ziffer(zustand, neu) : FEHLER;
+    }
+
+    private static int aktuellesFeld(long zustand) {
+        return (int) zustand & (1 << FELD_BITS) - 1;
+    }
+
+    private static int anzahl(long zustand) {
+        return (int) (zustand >>> FELD_BITS) & (1 << ANZAHL_BITS) - 1;
+    }
+
+    private static int wert(long zustand) {
+        return (int) (zustand >>> WERT_POSITION) & (1 << WERT_BITS) - 1;
+    }
+
+    private static int feld(long zustand, int feld) {
+        return (int) (zustand >>> FELDER_POSITION + 7 * feld) & 0x7F;
+    }
+
+    /**
+     * Übernimmt eine weitere Ziffer in das aktuelle Feld.
+     */
+    private static long ziffer(long zustand, int wert) {
+        long ohneWert = zustand & ~((1L << WERT_BITS) - 1 << WERT_POSITION);
+        return ohneWert + (1 << FELD_BITS) | (long) wert << WERT_POSITION;
+    }
+
+    /**
+     * Schließt das aktuelle Feld ab und beginnt das nächste.
+     */
+    private static long naechstesFeld(long zustand) {
+        int feld = aktuellesFeld(zustand);
+        long felder = zustand >>> FELDER_POSITION | (long) wert(zustand) << 7 * feld;
+        return felder << FELDER_POSITION | feld + 1;
+    }
+}
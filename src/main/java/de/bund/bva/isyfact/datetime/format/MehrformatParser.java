@@ -0,0 +1,311 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parst Eingaben, die in einen von mehreren Zieltypen geparst werden können, z.B. Felder, die ein Datum, ein
+ * Datum mit Zeit oder ein Datum mit Zeit und Zeitzone enthalten.
+ * <p>
+ * Unterstützt werden {@link LocalDate}, {@link LocalTime}, {@link OffsetTime}, {@link LocalDateTime},
+ * {@link OffsetDateTime} und {@link ZonedDateTime} mit denselben Formaten wie die entsprechenden
+ * {@code parseTo}-Methoden von {@link InFormat}. Der Parser zählt, wie oft jeder Zieltyp das Ergebnis war, und
+ * probiert die Zieltypen in der Reihenfolge ihrer bisherigen Treffer. Bei einheitlichen oder überwiegend
+ * gleichartigen Daten wird dadurch meist nur ein Zieltyp geparst. Fehlversuche werfen keine Exceptions.
+ * <p>
+ * Die Reihenfolge beeinflusst nur die Laufzeit, nicht das Ergebnis. Passt eine Eingabe zu mehreren
+ * Zieltypen, ist das Ergebnis immer der Zieltyp, der alle Angaben der Eingabe enthält und am genauesten ist:
+ * {@link OffsetDateTime} vor {@link ZonedDateTime} vor {@link LocalDateTime} und {@link OffsetTime} vor
+ * {@link LocalTime}.
+ * <p>
+ * Der Parser ist thread-safe. Die Zählung ist an die Instanz gebunden, daher sollte jede Aufrufstelle eine
+ * eigene Instanz verwenden, z.B. in einer Konstanten:
+ * <pre>
+ * private static final MehrformatParser PARSER =
+ *     new MehrformatParser(Set.of(LocalDate.class, LocalDateTime.class, ZonedDateTime.class));
+ *
+ * Temporal wert = PARSER.parseAny(text);
+ * </pre>
+ */
+public class MehrformatParser {
+
+    private final Set<Zieltyp> zieltypen;
+
+    /**
+     * Die Zieltypen in der Reihenfolge, in der sie probiert werden. Das Array wird nicht verändert, sondern
+     * bei einer Änderung der Reihenfolge ersetzt.
+     */
+    private volatile Zieltyp[] reihenfolge;
+
+    /**
+     * Die Anzahl der Ergebnisse je Zieltyp, indiziert mit {@link Zieltyp#ordinal()}.
+     */
+    private final AtomicLongArray treffer = new AtomicLongArray(Zieltyp.values().length);
+
+    /**
+     * Erstellt einen Parser für die angegebenen Zieltypen.
+     *
+     * @param zieltypen
+     *     die Zieltypen, nicht null und nicht leer
+     * @throws IllegalArgumentException
+     *     wenn keine Zieltypen angegeben sind oder ein Zieltyp nicht unterstützt wird
+     */
+    public MehrformatParser(Set<Class<? extends Temporal>> zieltypen) {
+        if (zieltypen.isEmpty()) {
+            throw new IllegalArgumentException("Es muss mindestens ein Zieltyp angegeben werden.");
+        }
+
+        List<Zieltyp> liste = new ArrayList<>();
+        for (Zieltyp zieltyp : Zieltyp.values()) {
+            if (zieltypen.contains(zieltyp.klasse)) {
+                liste.add(zieltyp);
+            }
+        }
+        if (liste.size() < zieltypen.size()) {
+            throw new IllegalArgumentException(
+                "Nicht alle Zieltypen in " + zieltypen + " werden unterstützt.");
+        }
+
+        this.zieltypen = EnumSet.copyOf(liste);
+        this.reihenfolge = liste.toArray(new Zieltyp[0]);
+    }
+
+    /**
+     * Parst einen String in den ersten passenden Zieltyp.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das Ergebnis, eine Instanz eines der Zieltypen, nicht null
+     * @throws DateTimeParseException
+     *     wenn die Eingabe in keinen der Zieltypen geparst werden kann
+     */
+    public Temporal parseAny(String text) {
+        Temporal ergebnis = parse(text);
+        if (ergebnis == null) {
+            throw new DateTimeParseException(
+                "Der Text '" + text + "' kann in keinen der Zieltypen " + getReihenfolge() + " geparst werden.",
+                text, 0);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst einen String in den ersten passenden Zieltyp, ohne bei ungültigen Eingaben eine Exception zu
+     * werfen.
+     *
+     * @param text
+     *     der Text, der geparst werden soll, nicht null
+     * @return das Ergebnis oder ein leeres {@link Optional}, wenn die Eingabe in keinen der Zieltypen geparst
+     * werden kann
+     */
+    public Optional<Temporal> tryParseAny(String text) {
+        return Optional.ofNullable(parse(text));
+    }
+
+    /**
+     * @return die Zieltypen in der Reihenfolge, in der sie aktuell probiert werden
+     */
+    public List<Class<? extends Temporal>> getReihenfolge() {
+        List<Class<? extends Temporal>> klassen = new ArrayList<>();
+        for (Zieltyp zieltyp : reihenfolge) {
+            klassen.add(zieltyp.klasse);
+        }
+        return klassen;
+    }
+
+    /**
+     * @param zieltyp
+     *     ein Zieltyp
+     * @return wie oft der Zieltyp bisher das Ergebnis war
+     */
+    public long getAnzahlTreffer(Class<? extends Temporal> zieltyp) {
+        for (Zieltyp z : zieltypen) {
+            if (z.klasse == zieltyp) {
+                return treffer.get(z.ordinal());
+            }
+        }
+        return 0;
+    }
+
+    private Temporal parse(String text) {
+        Objects.requireNonNull(text);
+
+        Zieltyp[] aktuell = reihenfolge;
+        for (int i = 0; i < aktuell.length; i++) {
+            Zieltyp zieltyp = aktuell[i];
+            Temporal ergebnis = zieltyp.parse(text);
+            if (ergebnis != null) {
+                return genauer(zieltyp, ergebnis, text);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sucht zu einem Ergebnis das genaueste Ergebnis unter den Zieltypen und zählt den Treffer.
+     */
+    private Temporal genauer(Zieltyp zieltyp, Temporal ergebnis, String text) {
+        switch (zieltyp) {
+            case ZONED_DATE_TIME:
+                if (zieltypen.contains(Zieltyp.OFFSET_DATE_TIME)) {
+                    // Eingaben mit Offset, auch zusammen mit einer Zeitzone, ergeben unabhängig von der
+                    // Reihenfolge immer eine OffsetDateTime. Ohne Offset kann sie nicht geparst werden.
+                    if (mitOffset(text)) {
+                        Temporal offsetDateTime = Zieltyp.OFFSET_DATE_TIME.parse(text);
+                        if (offsetDateTime != null) {
+                            return gezaehlt(Zieltyp.OFFSET_DATE_TIME, offsetDateTime);
+                        }
+                    }
+                    ZonedDateTime zonedDateTime = (ZonedDateTime) ergebnis;
+                    if (zonedDateTime.getZone() instanceof ZoneOffset) {
+                        // Entspricht dem Ergebnis von InFormat.parseToOffsetDateTime.
+                        return gezaehlt(Zieltyp.OFFSET_DATE_TIME, zonedDateTime.toOffsetDateTime());
+                    }
+                }
+                break;
+            case LOCAL_DATE_TIME:
+                int datumEnde = DatumZeitScanner.leerzeichen(text, 0, text.length());
+                if (DatumZeitScanner.zeitEnde(text, datumEnde, text.length()) < text.length()) {
+                    return mitOffset(text)
+                        ? genauerAls(zieltyp, ergebnis, text, Zieltyp.OFFSET_DATE_TIME, Zieltyp.ZONED_DATE_TIME)
+                        : genauerAls(zieltyp, ergebnis, text, Zieltyp.ZONED_DATE_TIME);
+                }
+                break;
+            case LOCAL_TIME:
+                if (DatumZeitScanner.leerzeichen(text, 0, text.length()) < text.length()) {
+                    return genauerAls(zieltyp, ergebnis, text, Zieltyp.OFFSET_TIME);
+                }
+                break;
+            default:
+                break;
+        }
+        return gezaehlt(zieltyp, ergebnis);
+    }
+
+    /**
+     * Prüft, ob auf die Zeit einer Eingabe mit Datum und Zeit ein Offset ({@code +HH:MM} oder {@code -HH:MM})
+     * folgt. Nur dann kann die Eingabe als {@link OffsetDateTime} geparst werden, eine Zeitzone allein reicht
+     * dafür nicht aus.
+     */
+    private static boolean mitOffset(String text) {
+        int datumEnde = DatumZeitScanner.leerzeichen(text, 0, text.length());
+        int zeitEnde = DatumZeitScanner.zeitEnde(text, datumEnde, text.length());
+        if (zeitEnde + 1 >= text.length()) {
+            return false;
+        }
+        char vorzeichen = text.charAt(zeitEnde + 1);
+        return vorzeichen == '+' || vorzeichen == '-';
+    }
+
+    /**
+     * Probiert für eine Eingabe mit Offset oder Zeitzone die genaueren Zieltypen, bevor das Ergebnis ohne
+     * Offset und Zeitzone verwendet wird.
+     */
+    private Temporal genauerAls(Zieltyp zieltyp, Temporal ergebnis, String text, Zieltyp... genauere) {
+        for (Zieltyp genauer : genauere) {
+            if (zieltypen.contains(genauer)) {
+                Temporal genaueres = genauer.parse(text);
+                if (genaueres != null) {
+                    return genauer(genauer, genaueres, text);
+                }
+            }
+        }
+        return gezaehlt(zieltyp, ergebnis);
+    }
+
+    /**
+     * Zählt einen Treffer und zieht den Zieltyp in der Reihenfolge eine Position nach vorne, sobald er mehr
+     * Treffer als sein Vorgänger hat.
+     */
+    private Temporal gezaehlt(Zieltyp zieltyp, Temporal ergebnis) {
+        long anzahl = treffer.incrementAndGet(zieltyp.ordinal());
+
+        Zieltyp[] aktuell = reihenfolge;
+        if (aktuell[0] != zieltyp) {
+            int position = 1;
+            while (aktuell[position] != zieltyp) {
+                position++;
+            }
+            if (anzahl > treffer.get(aktuell[position - 1].ordinal())) {
+                Zieltyp[] neu = aktuell.clone();
+                neu[position] = aktuell[position - 1];
+                neu[position - 1] = zieltyp;
+                reihenfolge = neu;
+            }
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Die unterstützten Zieltypen, von den genauesten zu den allgemeinsten.
+     */
+    private enum Zieltyp {
+
+        OFFSET_DATE_TIME(OffsetDateTime.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.offsetDateTime(text, 0, text.length(), false);
+            }
+        },
+
+        ZONED_DATE_TIME(ZonedDateTime.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.zonedDateTime(text, 0, text.length(), false);
+            }
+        },
+
+        LOCAL_DATE_TIME(LocalDateTime.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.localDateTime(text, 0, text.length(), false);
+            }
+        },
+
+        LOCAL_DATE(LocalDate.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.localDate(text, 0, text.length(), false);
+            }
+        },
+
+        OFFSET_TIME(OffsetTime.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.offsetTime(text, 0, text.length(), false);
+            }
+        },
+
+        LOCAL_TIME(LocalTime.class) {
+            @Override
+            Temporal parse(String text) {
+                return InFormat.localTime(text, 0, text.length(), false);
+            }
+        };
+
+        private final Class<? extends Temporal> klasse;
+
+        Zieltyp(Class<? extends Temporal> klasse) {
+            this.klasse = klasse;
+        }
+
+        /**
+         * Parst den Text in den Zieltyp. Liefert null, wenn der Text nicht geparst werden kann.
+         */
+        abstract Temporal parse(String text);
+    }
+}
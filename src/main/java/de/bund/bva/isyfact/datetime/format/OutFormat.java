@@ -1,16 +1,15 @@
 package de.bund.bva.isyfact.datetime.format;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.ChronoUnit;
-import java.time.temporal.TemporalUnit;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
+import java.time.temporal.TemporalAccessor;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Klasse zur formatierten Ausgabe von Datums-, Zeitwerten und Dauern.
@@ -72,16 +71,156 @@ public abstract class OutFormat {
      */
     public static final DateTimeFormatter ZEIT_KURZ = DateTimeFormatter.ofPattern("HH:mm", Locale.GERMAN);
 
-    private static final Map<TemporalUnit, String> zeiteinheitenAbkuerzungen = new HashMap<>();
+    /**
+     * Formatiert einen Datums- oder Zeitwert.
+     * <p>
+     * Das Ergebnis entspricht {@code format.format(wert)}. Für die numerischen Formate {@link #DATUM},
+     * {@link #ZEIT}, {@link #ZEIT_KURZ}, {@link #DATUM_ZEIT} und {@link #DATUM_ZEIT_ZONE} werden die Ziffern
+     * ohne den {@link DateTimeFormatter} direkt geschrieben. Die langen Formate
+     * {@link #DATUM_ZEIT_LANG_TAG_ZONE}, {@link #DATUM_ZEIT_LANG_TAG} und {@link #DATUM_ZEIT_LANG_ZONE}
+     * verwenden vorberechnete Tabellen mit den Namen der Wochentage und Monate. Alle anderen Formate werden
+     * mit dem {@link DateTimeFormatter} formatiert.
+     *
+     * @param format
+     *     das Format, z.B. {@link #DATUM}, nicht null
+     * @param wert
+     *     der Wert, der formatiert werden soll, nicht null
+     * @return der formatierte Wert, nicht null
+     * @throws java.time.DateTimeException
+     *     wenn der Wert nicht formatiert werden kann
+     */
+    public static String format(DateTimeFormatter format, TemporalAccessor wert) {
+        Objects.requireNonNull(wert);
+
+        int laenge = DatumZeitSchreiber.laenge(format);
+        if (laenge > 0) {
+            byte[] ziel = new byte[laenge];
+            if (DatumZeitSchreiber.schreibe(format, wert, ziel, 0) > 0) {
+                return new String(ziel, StandardCharsets.US_ASCII);
+            }
+        } else if (DatumZeitLangSchreiber.unterstuetzt(format)) {
+            StringBuilder ziel = new StringBuilder(64);
+            formatTo(format, wert, ziel);
+            return ziel.toString();
+        }
+        return format.format(wert);
+    }
+
+    /**
+     * Hängt einen formatierten Datums- oder Zeitwert an ein {@link Appendable}, z.B. einen
+     * {@link StringBuilder} oder {@link java.io.Writer}, an.
+     * <p>
+     * Das Ergebnis entspricht {@code format.formatTo(wert, ziel)}. Für die numerischen Formate {@link #DATUM},
+     * {@link #ZEIT}, {@link #ZEIT_KURZ}, {@link #DATUM_ZEIT} und {@link #DATUM_ZEIT_ZONE} werden die Ziffern
+     * einzeln angehängt, ohne einen String oder andere Objekte zu erzeugen. Bei den langen Formaten werden die
+     * Namen der Wochentage und Monate aus vorberechneten Tabellen angehängt.
+     *
+     * @param format
+     *     das Format, z.B. {@link #DATUM}, nicht null
+     * @param wert
+     *     der Wert, der formatiert werden soll, nicht null
+     * @param ziel
+     *     das Ziel, an das der formatierte Wert angehängt wird, nicht null
+     * @throws DateTimeException
+     *     wenn der Wert nicht formatiert werden kann oder das Ziel eine {@link IOException} wirft
+     */
+    public static void formatTo(DateTimeFormatter format, TemporalAccessor wert, Appendable ziel) {
+        Objects.requireNonNull(wert);
+        Objects.requireNonNull(ziel);
+
+        try {
+            if (!DatumZeitSchreiber.schreibe(format, wert, ziel)
+                && !DatumZeitLangSchreiber.schreibe(format, wert, ziel)) {
+                format.formatTo(wert, ziel);
+            }
+        } catch (IOException e) {
+            throw new DateTimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Schreibt einen formatierten Datums- oder Zeitwert als Bytes in ein Array.
+     * <p>
+     * Die geschriebenen Bytes entsprechen {@code format.format(wert).getBytes(StandardCharsets.UTF_8)}. Für
+     * die numerischen Formate {@link #DATUM}, {@link #ZEIT}, {@link #ZEIT_KURZ}, {@link #DATUM_ZEIT} und
+     * {@link #DATUM_ZEIT_ZONE} werden die ASCII-Ziffern direkt in das Array geschrieben, ohne einen String
+     * zu erzeugen. Reicht der Platz nicht aus, wird nichts geschrieben.
+     *
+     * @param format
+     *     das Format, z.B. {@link #DATUM}, nicht null
+     * @param wert
+     *     der Wert, der formatiert werden soll, nicht null
+     * @param ziel
+     *     das Array, in das geschrieben wird, nicht null
+     * @param offset
+     *     die Position im Array, an die das erste Byte geschrieben wird
+     * @return die Anzahl der geschriebenen Bytes
+     * @throws java.time.DateTimeException
+     *     wenn der Wert nicht formatiert werden kann
+     * @throws IndexOutOfBoundsException
+     *     wenn das Array ab {@code offset} nicht genug Platz hat
+     */
+    public static int formatTo(DateTimeFormatter format, TemporalAccessor wert, byte[] ziel, int offset) {
+        Objects.requireNonNull(wert);
+        Objects.requireNonNull(ziel);
+
+        int laenge = DatumZeitSchreiber.laenge(format);
+        if (laenge > 0 && offset >= 0 && laenge <= ziel.length - offset) {
+            int ende = DatumZeitSchreiber.schreibe(format, wert, ziel, offset);
+            if (ende > 0) {
+                return ende - offset;
+            }
+        }
+        byte[] bytes = format(format, wert).getBytes(StandardCharsets.UTF_8);
+        Objects.checkFromIndexSize(offset, bytes.length, ziel.length);
+        System.arraycopy(bytes, 0, ziel, offset, bytes.length);
+        return bytes.length;
+    }
+
+    /**
+     * Schreibt einen formatierten Datums- oder Zeitwert als Bytes an der aktuellen Position in einen
+     * {@link ByteBuffer} und erhöht die Position um die Anzahl der geschriebenen Bytes.
+     * <p>
+     * Wie {@link #formatTo(DateTimeFormatter, TemporalAccessor, byte[], int)}. Bei Puffern mit Array werden die
+     * numerischen Formate direkt in das Array geschrieben.
+     *
+     * @param format
+     *     das Format, z.B. {@link #DATUM}, nicht null
+     * @param wert
+     *     der Wert, der formatiert werden soll, nicht null
+     * @param ziel
+     *     der Puffer, in den geschrieben wird, nicht null
+     * @return die Anzahl der geschriebenen Bytes
+     * @throws java.time.DateTimeException
+     *     wenn der Wert nicht formatiert werden kann
+     * @throws java.nio.BufferOverflowException
+     *     wenn der Puffer nicht genug Platz hat, dann wird nichts geschrieben
+     * @throws java.nio.ReadOnlyBufferException
+     *     wenn der Puffer schreibgeschützt ist
+     */
+    public static int formatTo(DateTimeFormatter format, TemporalAccessor wert, ByteBuffer ziel) {
+        Objects.requireNonNull(wert);
 
-    static {
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.MILLIS, "ms");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.SECONDS, "s");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.MINUTES, "min");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.HOURS, "h");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.DAYS, "d");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.MONTHS, "M");
-        zeiteinheitenAbkuerzungen.put(ChronoUnit.YEARS, "a");
+        int laenge = DatumZeitSchreiber.laenge(format);
+        if (laenge > 0 && laenge <= ziel.remaining()) {
+            if (ziel.hasArray()) {
+                int anfang = ziel.arrayOffset() + ziel.position();
+                int ende = DatumZeitSchreiber.schreibe(format, wert, ziel.array(), anfang);
+                if (ende > 0) {
+                    ziel.position(ziel.position() + ende - anfang);
+                    return ende - anfang;
+                }
+            } else {
+                byte[] bytes = new byte[laenge];
+                if (DatumZeitSchreiber.schreibe(format, wert, bytes, 0) > 0) {
+                    ziel.put(bytes);
+                    return laenge;
+                }
+            }
+        }
+        byte[] bytes = format(format, wert).getBytes(StandardCharsets.UTF_8);
+        ziel.put(bytes);
+        return bytes.length;
     }
 
     /**
@@ -94,11 +233,34 @@ public abstract class OutFormat {
      * @return Darstellung der {@link Duration} als Dauer String, nicht null
      */
     public static String toDauerString(Period period) {
+        StringBuilder ergebnis = new StringBuilder();
+        formatDauerTo(period, ergebnis);
+        return ergebnis.toString();
+    }
+
+    /**
+     * Hängt die Darstellung einer {@link Period} als Dauer String an ein {@link Appendable} an.
+     * <p>
+     * Die angehängten Zeichen entsprechen {@link #toDauerString(Period)}.
+     *
+     * @param period
+     *     {@link Period}, die umgewandelt werden soll, nicht null
+     * @param ziel
+     *     das Ziel, an das der Dauer String angehängt wird, nicht null
+     * @throws DateTimeException
+     *     wenn das Ziel eine {@link IOException} wirft
+     */
+    public static void formatDauerTo(Period period, Appendable ziel) {
         Objects.requireNonNull(period);
+        Objects.requireNonNull(ziel);
 
-        return period.getUnits().stream().filter(unit -> period.get(unit) > 0)
-            .map(unit -> period.get(unit) + zeiteinheitenAbkuerzungen.get(unit))
-            .collect(Collectors.joining(" "));
+        try {
+            boolean leer = dauerEinheit(period.getYears(), "a", true, ziel);
+            leer = dauerEinheit(period.getMonths(), "M", leer, ziel);
+            dauerEinheit(period.getDays(), "d", leer, ziel);
+        } catch (IOException e) {
+            throw new DateTimeException(e.getMessage(), e);
+        }
     }
 
     /**
@@ -111,19 +273,64 @@ public abstract class OutFormat {
      * @return Darstellung der {@link Duration} als Dauer String, nicht null
      */
     public static String toDauerString(Duration duration) {
-        Map<TemporalUnit, Long> einzelwerte = new LinkedHashMap<>();
-
-        Long stunden = duration.toHours();
-        einzelwerte.put(ChronoUnit.HOURS, stunden);
-        duration = duration.minusHours(stunden);
-        Long minuten = duration.toMinutes();
-        einzelwerte.put(ChronoUnit.MINUTES, minuten);
-        duration = duration.minusMinutes(minuten);
-        einzelwerte.put(ChronoUnit.SECONDS, duration.getSeconds());
-        einzelwerte.put(ChronoUnit.MILLIS, Math.round(duration.getNano() / 1000000.0d));
-
-        return einzelwerte.entrySet().stream().filter(e -> e.getValue() > 0)
-            .map(e -> e.getValue() + zeiteinheitenAbkuerzungen.get(e.getKey()))
-            .collect(Collectors.joining(" "));
+        StringBuilder ergebnis = new StringBuilder();
+        formatDauerTo(duration, ergebnis);
+        return ergebnis.toString();
+    }
+
+    /**
+     * Hängt die Darstellung einer {@link Duration} als Dauer String an ein {@link Appendable} an.
+     * <p>
+     * Die angehängten Zeichen entsprechen {@link #toDauerString(Duration)}: Stunden, Minuten, Sekunden und auf
+     * ganze Millisekunden gerundete Nanosekunden, jeweils nur, wenn sie größer als 0 sind.
+     *
+     * @param duration
+     *     {@link Duration}, die umgewandelt werden soll, nicht null
+     * @param ziel
+     *     das Ziel, an das der Dauer String angehängt wird, nicht null
+     * @throws DateTimeException
+     *     wenn das Ziel eine {@link IOException} wirft
+     */
+    public static void formatDauerTo(Duration duration, Appendable ziel) {
+        Objects.requireNonNull(duration);
+        Objects.requireNonNull(ziel);
+
+        long sekunden = duration.getSeconds();
+        long stunden = sekunden / 3600;
+        sekunden -= stunden * 3600;
+        long minuten = sekunden / 60;
+        sekunden -= minuten * 60;
+        try {
+            boolean leer = dauerEinheit(stunden, "h", true, ziel);
+            leer = dauerEinheit(minuten, "min", leer, ziel);
+            leer = dauerEinheit(sekunden, "s", leer, ziel);
+            dauerEinheit(Math.round(duration.getNano() / 1000000.0d), "ms", leer, ziel);
+        } catch (IOException e) {
+            throw new DateTimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Hängt einen Wert mit der Abkürzung seiner Zeiteinheit an, wenn er größer als 0 ist.
+     *
+     * @return ob das Ziel danach noch leer ist
+     */
+    private static boolean dauerEinheit(long wert, String abkuerzung, boolean leer, Appendable ziel)
+        throws IOException {
+        if (wert <= 0) {
+            return leer;
+        }
+        if (!leer) {
+            ziel.append(' ');
+        }
+        long teiler = 1;
+        while (teiler <= wert / 10) {
+            teiler *= 10;
+        }
+        for (; teiler > 0; teiler /= 10) {
+            ziel.append((char) ('0' + wert / teiler % 10));
+        }
+        ziel.append(abkuerzung);
+        return false;
     }
 }
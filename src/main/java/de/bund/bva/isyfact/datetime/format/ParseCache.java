@@ -0,0 +1,139 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Größenbeschränkter Cache vor einer Parse-Methode, z.B. {@link InFormat#parseToLocalDate(String)} oder
+ * {@link de.bund.bva.isyfact.datetime.core.UngewissesDatum#parse(String)}.
+ * <p>
+ * In großen Datenmengen wiederholen sich viele Werte (Geburtsdaten, Fälligkeiten, Platzhalter wie
+ * "01.01.1900"). Für einen bereits geparsten Text liefert der Cache das gespeicherte Ergebnis, ohne erneut zu
+ * parsen. Die Ergebnisse der Parse-Methode müssen daher unveränderlich sein.
+ * <p>
+ * Der Cache ist thread-safe und kommt ohne Sperren aus. Jeder Text hat anhand seines Hashwerts genau einen
+ * Platz im Cache, ein neuer Text verdrängt den bisherigen Eintrag auf seinem Platz. Der Speicherbedarf ist
+ * dadurch durch die Größe beschränkt. Texte, die nicht geparst werden können, werden nicht gespeichert, die
+ * Exception der Parse-Methode wird bei jedem Aufruf geworfen.
+ * <p>
+ * Beispiel:
+ * <pre>
+ * ParseCache&lt;LocalDate&gt; cache = new ParseCache&lt;&gt;(InFormat::parseToLocalDate, 4096);
+ * LocalDate datum = cache.parse("01.01.1900");
+ * </pre>
+ *
+ * @param <T>
+ *     der Typ der Ergebnisse
+ */
+public class ParseCache<T> {
+
+    /**
+     * Maximale Größe eines Caches.
+     */
+    public static final int MAX_GROESSE = 1 << 30;
+
+    private final Function<String, ? extends T> parser;
+
+    private final AtomicReferenceArray<Eintrag<T>> eintraege;
+
+    private final int maske;
+
+    private final LongAdder treffer = new LongAdder();
+
+    private final LongAdder fehltreffer = new LongAdder();
+
+    /**
+     * Erstellt einen leeren Cache.
+     *
+     * @param parser
+     *     die Parse-Methode, deren unveränderliche Ergebnisse gespeichert werden, nicht null
+     * @param groesse
+     *     die Anzahl der Plätze im Cache, wird auf die nächste Zweierpotenz aufgerundet
+     * @throws IllegalArgumentException
+     *     wenn {@code groesse} nicht zwischen 1 und {@link #MAX_GROESSE} liegt
+     */
+    public ParseCache(Function<String, ? extends T> parser, int groesse) {
+        Objects.requireNonNull(parser);
+        if (groesse < 1 || groesse > MAX_GROESSE) {
+            throw new IllegalArgumentException(
+                "Die Größe " + groesse + " liegt nicht zwischen 1 und " + MAX_GROESSE + ".");
+        }
+
+        this.parser = parser;
+        this.eintraege = new AtomicReferenceArray<>(groesse == 1 ? 1 : Integer.highestOneBit(groesse - 1) << 1);
+        this.maske = eintraege.length() - 1;
+    }
+
+    /**
+     * Liefert das gespeicherte Ergebnis für den Text oder parst den Text und speichert das Ergebnis.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @return das Ergebnis der Parse-Methode für den Text
+     * @throws RuntimeException
+     *     die Exception der Parse-Methode, wenn der Text nicht geparst werden kann
+     */
+    public T parse(String text) {
+        Objects.requireNonNull(text);
+
+        int hash = text.hashCode();
+        int index = (hash ^ hash >>> 16) & maske;
+        Eintrag<T> eintrag = eintraege.get(index);
+        if (eintrag != null && eintrag.text.equals(text)) {
+            treffer.increment();
+            return eintrag.wert;
+        }
+
+        fehltreffer.increment();
+        T wert = parser.apply(text);
+        eintraege.set(index, new Eintrag<>(text, wert));
+        return wert;
+    }
+
+    /**
+     * Entfernt alle Einträge. Die Zähler bleiben erhalten.
+     */
+    public void leeren() {
+        for (int i = 0; i < eintraege.length(); i++) {
+            eintraege.set(i, null);
+        }
+    }
+
+    /**
+     * @return die Anzahl der Plätze im Cache
+     */
+    public int getGroesse() {
+        return eintraege.length();
+    }
+
+    /**
+     * @return die Anzahl der Aufrufe von {@link #parse(String)}, die ein gespeichertes Ergebnis geliefert haben
+     */
+    public long getAnzahlTreffer() {
+        return treffer.sum();
+    }
+
+    /**
+     * @return die Anzahl der Aufrufe von {@link #parse(String)}, bei denen der Text geparst wurde
+     */
+    public long getAnzahlFehltreffer() {
+        return fehltreffer.sum();
+    }
+
+    /**
+     * Ein Text mit seinem Ergebnis. Einträge werden nie verändert, sondern nur ersetzt.
+     */
+    private static final class Eintrag<T> {
+
+        private final String text;
+
+        private final T wert;
+
+        private Eintrag(String text, T wert) {
+            this.text = text;
+            this.wert = wert;
+        }
+    }
+}
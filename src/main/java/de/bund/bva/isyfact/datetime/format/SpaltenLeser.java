@@ -0,0 +1,563 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Liest Text mit durch ein Trennzeichen getrennten Spalten (z.B. CSV) zeilenweise aus einem {@link Reader}
+ * und parst einzelne Spalten wie {@link InFormat}.
+ * <p>
+ * Die Zeilen werden nacheinander in einen wiederverwendeten Puffer gelesen, ohne sie in Strings oder
+ * Spalten-Arrays zu zerlegen. Der Speicherbedarf hängt daher nur von der Länge der längsten Zeile ab, nicht
+ * von der Größe der Eingabe. Zeilen enden mit {@code \n}, {@code \r\n} oder {@code \r}. Anführungszeichen
+ * werden nicht gesondert behandelt, d.h. das Trennzeichen darf in keiner Spalte vorkommen.
+ * <p>
+ * Beispiel:
+ * <pre>
+ * try (SpaltenLeser leser = new SpaltenLeser(reader, ';')) {
+ *     leser.lese(zeile -&gt; pruefe(zeile.tryParseToLocalDate(2), zeile.tryParseToDuration(4)));
+ * }
+ * </pre>
+ */
+public class SpaltenLeser implements Closeable {
+
+    /**
+     * Standardwert für die maximale Länge einer Zeile in Zeichen.
+     */
+    public static final int MAX_ZEILENLAENGE = 1 << 20;
+
+    private static final int PUFFER_GROESSE = 8192;
+
+    private final Reader reader;
+
+    private final char trennzeichen;
+
+    private final int maxZeilenlaenge;
+
+    private final char[] puffer = new char[PUFFER_GROESSE];
+
+    private int position;
+
+    private int gefuellt;
+
+    private boolean nachWagenruecklauf;
+
+    private final Zeile zeile = new Zeile();
+
+    /**
+     * Erstellt einen {@link SpaltenLeser} mit der maximalen Zeilenlänge {@link #MAX_ZEILENLAENGE}.
+     *
+     * @param reader
+     *     liefert den Text, nicht null
+     * @param trennzeichen
+     *     das Zeichen zwischen zwei Spalten
+     */
+    public SpaltenLeser(Reader reader, char trennzeichen) {
+        this(reader, trennzeichen, MAX_ZEILENLAENGE);
+    }
+
+    /**
+     * Erstellt einen {@link SpaltenLeser}.
+     *
+     * @param reader
+     *     liefert den Text, nicht null
+     * @param trennzeichen
+     *     das Zeichen zwischen zwei Spalten
+     * @param maxZeilenlaenge
+     *     die maximale Länge einer Zeile in Zeichen, begrenzt den Speicherbedarf
+     * @throws IllegalArgumentException
+     *     wenn {@code maxZeilenlaenge} nicht positiv ist
+     */
+    public SpaltenLeser(Reader reader, char trennzeichen, int maxZeilenlaenge) {
+        if (maxZeilenlaenge <= 0) {
+            throw new IllegalArgumentException("Die maximale Zeilenlänge muss positiv sein.");
+        }
+        this.reader = Objects.requireNonNull(reader);
+        this.trennzeichen = trennzeichen;
+        this.maxZeilenlaenge = maxZeilenlaenge;
+    }
+
+    /**
+     * Liest alle verbleibenden Zeilen und übergibt sie nacheinander an {@code verarbeitung}.
+     * <p>
+     * Die übergebene {@link Zeile} wird für alle Zeilen wiederverwendet und ist nur während des Aufrufs von
+     * {@code verarbeitung} gültig.
+     *
+     * @param verarbeitung
+     *     verarbeitet eine Zeile, nicht null
+     * @throws IOException
+     *     wenn beim Lesen ein Fehler auftritt oder eine Zeile länger als die maximale Zeilenlänge ist
+     */
+    public void lese(Consumer<? super Zeile> verarbeitung) throws IOException {
+        Objects.requireNonNull(verarbeitung);
+
+        while (leseZeile()) {
+            verarbeitung.accept(zeile);
+        }
+    }
+
+    /**
+     * Liefert einen sequentiellen {@link Stream}, der die verbleibenden Zeilen erst beim Verarbeiten liest und
+     * jede Zeile mit {@code abbildung} abbildet.
+     * <p>
+     * Da die {@link Zeile} wiederverwendet wird, muss {@code abbildung} die benötigten Werte aus der Zeile
+     * übernehmen und darf die Zeile selbst nicht zurückliefern. Fehler beim Lesen werden als
+     * {@link UncheckedIOException} geworfen. Das Schließen des Streams schließt den {@link Reader}.
+     *
+     * @param abbildung
+     *     bildet eine Zeile auf ein Element des Streams ab, nicht null
+     * @param <T>
+     *     der Typ der Elemente
+     * @return der Stream der abgebildeten Zeilen
+     */
+    public <T> Stream<T> stream(Function<? super Zeile, ? extends T> abbildung) {
+        Objects.requireNonNull(abbildung);
+
+        Spliterator<T> zeilen = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE,
+            Spliterator.ORDERED | Spliterator.NONNULL) {
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                try {
+                    if (!leseZeile()) {
+                        return false;
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                action.accept(abbildung.apply(zeile));
+                return true;
+            }
+        };
+        return StreamSupport.stream(zeilen, false).onClose(() -> {
+            try {
+                close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Schließt den {@link Reader}.
+     *
+     * @throws IOException
+     *     wenn beim Schließen ein Fehler auftritt
+     */
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Liest die nächste Zeile in {@link #zeile}.
+     *
+     * @return false, wenn keine Zeile mehr vorhanden ist
+     */
+    private boolean leseZeile() throws IOException {
+        boolean gelesen = false;
+        zeile.beginne();
+
+        while (true) {
+            if (position == gefuellt) {
+                gefuellt = reader.read(puffer);
+                position = 0;
+                if (gefuellt < 0) {
+                    gefuellt = 0;
+                    if (!gelesen) {
+                        return false;
+                    }
+                    break;
+                }
+                continue;
+            }
+
+            char zeichen = puffer[position++];
+            if (nachWagenruecklauf) {
+                nachWagenruecklauf = false;
+                if (zeichen == '\n') {
+                    continue;
+                }
+            }
+            gelesen = true;
+            if (zeichen == '\n' || zeichen == '\r') {
+                nachWagenruecklauf = zeichen == '\r';
+                break;
+            }
+            if (zeile.laenge == maxZeilenlaenge) {
+                throw new IOException(
+                    "Zeile " + (zeile.nummer + 1) + " ist länger als " + maxZeilenlaenge + " Zeichen.");
+            }
+            if (zeichen == trennzeichen) {
+                zeile.beendeSpalte();
+            }
+            zeile.fuegeHinzu(zeichen, maxZeilenlaenge);
+        }
+
+        zeile.beende();
+        return true;
+    }
+
+    /**
+     * Eine Zeile des {@link SpaltenLeser}.
+     * <p>
+     * Als {@link CharSequence} umfasst sie die gesamte Zeile ohne Zeilenende. Die Methoden {@code parseTo...}
+     * und {@code tryParseTo...} parsen eine Spalte wie die gleichnamigen Methoden von {@link InFormat}, ohne
+     * die Spalte zu kopieren. Der Fehlerindex einer {@link DateTimeParseException} ist relativ zum Anfang der
+     * Spalte. Spalten werden ab 0 gezählt.
+     */
+    public static final class Zeile implements CharSequence {
+
+        private char[] zeichen = new char[256];
+
+        private int laenge;
+
+        /**
+         * Ende jeder Spalte, d.h. die Position des folgenden Trennzeichens bzw. das Ende der Zeile.
+         */
+        private int[] spaltenEnden = new int[16];
+
+        private int anzahlSpalten;
+
+        private long nummer;
+
+        private Zeile() {
+        }
+
+        private void beginne() {
+            laenge = 0;
+            anzahlSpalten = 0;
+        }
+
+        private void fuegeHinzu(char c, int maxZeilenlaenge) {
+            if (laenge == zeichen.length) {
+                zeichen = Arrays.copyOf(zeichen, (int) Math.min(2L * zeichen.length, maxZeilenlaenge));
+            }
+            zeichen[laenge++] = c;
+        }
+
+        private void beendeSpalte() {
+            if (anzahlSpalten == spaltenEnden.length) {
+                spaltenEnden = Arrays.copyOf(spaltenEnden, 2 * spaltenEnden.length);
+            }
+            spaltenEnden[anzahlSpalten++] = laenge;
+        }
+
+        private void beende() {
+            beendeSpalte();
+            nummer++;
+        }
+
+        /**
+         * Liefert die Nummer der Zeile in der Eingabe, beginnend mit 1.
+         *
+         * @return die Nummer der Zeile
+         */
+        public long getNummer() {
+            return nummer;
+        }
+
+        /**
+         * Liefert die Anzahl der Spalten der Zeile. Eine leere Zeile hat eine leere Spalte.
+         *
+         * @return die Anzahl der Spalten
+         */
+        public int getAnzahlSpalten() {
+            return anzahlSpalten;
+        }
+
+        /**
+         * Liefert den Inhalt einer Spalte.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return der Inhalt der Spalte
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public String getSpalte(int spalte) {
+            return subSequence(anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToLocalDate(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public LocalDate parseToLocalDate(int spalte) {
+            return InFormat.parseToLocalDate(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToLocalTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Zeit, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public LocalTime parseToLocalTime(int spalte) {
+            return InFormat.parseToLocalTime(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToOffsetTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Zeit, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public OffsetTime parseToOffsetTime(int spalte) {
+            return InFormat.parseToOffsetTime(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToLocalDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public LocalDateTime parseToLocalDateTime(int spalte) {
+            return InFormat.parseToLocalDateTime(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToOffsetDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public OffsetDateTime parseToOffsetDateTime(int spalte) {
+            return InFormat.parseToOffsetDateTime(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToZonedDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public ZonedDateTime parseToZonedDateTime(int spalte) {
+            return InFormat.parseToZonedDateTime(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToPeriod(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Period, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Period parseToPeriod(int spalte) {
+            return InFormat.parseToPeriod(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#parseToDuration(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste {@link Duration}, nicht null
+         * @throws DateTimeParseException
+         *     wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Duration parseToDuration(int spalte) {
+            return InFormat.parseToDuration(this, anfang(spalte), ende(spalte));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToLocalDate(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum oder ein leeres {@link Optional}, wenn die Spalte nicht geparst werden
+         * kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<LocalDate> tryParseToLocalDate(int spalte) {
+            return Optional.ofNullable(InFormat.localDate(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToLocalTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Zeit oder ein leeres {@link Optional}, wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<LocalTime> tryParseToLocalTime(int spalte) {
+            return Optional.ofNullable(InFormat.localTime(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToOffsetTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Zeit oder ein leeres {@link Optional}, wenn die Spalte nicht geparst werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<OffsetTime> tryParseToOffsetTime(int spalte) {
+            return Optional.ofNullable(InFormat.offsetTime(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToLocalDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Spalte nicht geparst
+         * werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<LocalDateTime> tryParseToLocalDateTime(int spalte) {
+            return Optional.ofNullable(InFormat.localDateTime(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToOffsetDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Spalte nicht geparst
+         * werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<OffsetDateTime> tryParseToOffsetDateTime(int spalte) {
+            return Optional.ofNullable(InFormat.offsetDateTime(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToZonedDateTime(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return das geparste Datum/Zeit oder ein leeres {@link Optional}, wenn die Spalte nicht geparst
+         * werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<ZonedDateTime> tryParseToZonedDateTime(int spalte) {
+            return Optional.ofNullable(InFormat.zonedDateTime(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToPeriod(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste Period oder ein leeres {@link Optional}, wenn die Spalte nicht geparst werden
+         * kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<Period> tryParseToPeriod(int spalte) {
+            return Optional.ofNullable(InFormat.period(this, anfang(spalte), ende(spalte), false));
+        }
+
+        /**
+         * Parst eine Spalte wie {@link InFormat#tryParseToDuration(String)}.
+         *
+         * @param spalte
+         *     die Nummer der Spalte
+         * @return die geparste {@link Duration} oder ein leeres {@link Optional}, wenn die Spalte nicht geparst
+         * werden kann
+         * @throws IndexOutOfBoundsException
+         *     wenn die Zeile die Spalte nicht enthält
+         */
+        public Optional<Duration> tryParseToDuration(int spalte) {
+            return Optional.ofNullable(InFormat.duration(this, anfang(spalte), ende(spalte), false));
+        }
+
+        @Override
+        public int length() {
+            return laenge;
+        }
+
+        @Override
+        public char charAt(int index) {
+            Objects.checkIndex(index, laenge);
+            return zeichen[index];
+        }
+
+        @Override
+        public String subSequence(int start, int end) {
+            Objects.checkFromToIndex(start, end, laenge);
+            return new String(zeichen, start, end - start);
+        }
+
+        @Override
+        public String toString() {
+            return new String(zeichen, 0, laenge);
+        }
+
+        private int anfang(int spalte) {
+            Objects.checkIndex(spalte, anzahlSpalten);
+            return spalte == 0 ? 0 : spaltenEnden[spalte - 1] + 1;
+        }
+
+        private int ende(int spalte) {
+            return spaltenEnden[spalte];
+        }
+    }
+}
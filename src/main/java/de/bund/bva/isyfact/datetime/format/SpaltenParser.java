@@ -0,0 +1,636 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Klasse zum Parsen ganzer Spalten von Datums- und Zeitwerten in primitive Arrays.
+ * <p>
+ * Die Eingabeformate entsprechen denen von {@link InFormat}. Statt für jeden Wert ein Objekt zu erzeugen,
+ * werden die Werte als Tage bzw. Nanosekunden seit der Epoche (1.1.1970 00:00) oder als Nanosekunde des
+ * Tages geliefert. So lassen sich große Datenmengen sortieren und vergleichen, ohne Millionen von
+ * {@link LocalDate}-Objekten anzulegen.
+ * <p>
+ * Für jede Zeile wird ein Status in ein vom Aufrufer übergebenes Array geschrieben ({@link #GUELTIG},
+ * {@link #UNGUELTIG} oder {@link #AUSSERHALB_WERTEBEREICH}). Für Zeilen, die nicht gültig sind, ist der Wert
+ * im Ergebnis 0. Zeilen mit dem Wert null gelten als ungültig. Es werden keine Exceptions für ungültige
+ * Zeilen geworfen.
+ * <p>
+ * Für große Spalten gibt es zu jeder Methode eine Variante mit {@link Executor}, die die Spalte in Abschnitte
+ * aufteilt und diese parallel parst.
+ */
+public abstract class SpaltenParser {
+
+    /**
+     * Status einer Zeile, die erfolgreich geparst wurde.
+     */
+    public static final byte GUELTIG = 0;
+
+    /**
+     * Status einer Zeile, die nicht geparst werden konnte.
+     */
+    public static final byte UNGUELTIG = 1;
+
+    /**
+     * Status einer Zeile, die zwar geparst werden konnte, deren Wert aber nicht im Ergebnistyp darstellbar
+     * ist. Nanosekunden seit der Epoche umfassen z.B. nur die Jahre 1677 bis 2262.
+     */
+    public static final byte AUSSERHALB_WERTEBEREICH = 2;
+
+    /**
+     * Mindestanzahl der Zeilen eines Abschnitts beim parallelen Parsen. Kleinere Abschnitte lohnen den
+     * Aufwand für die Verteilung auf mehrere Threads nicht.
+     */
+    private static final int MIN_ABSCHNITT_GROESSE = 16_384;
+
+    /**
+     * Anzahl der Abschnitte je Prozessor beim parallelen Parsen, damit ungleich schnelle Abschnitte
+     * ausgeglichen werden.
+     */
+    private static final int ABSCHNITTE_PRO_PROZESSOR = 4;
+
+    private static final long SEKUNDEN_PRO_TAG = 86_400L;
+
+    /**
+     * Kleinste Sekunde seit der Epoche, deren Nanosekunden als {@code long} darstellbar sind.
+     */
+    private static final long MIN_EPOCH_SEKUNDE = Long.MIN_VALUE / DatumZeitScanner.NANOS_PRO_SEKUNDE;
+
+    /**
+     * Größte Sekunde seit der Epoche, deren Nanosekunden (inklusive Sekundenbruchteil) als {@code long}
+     * darstellbar sind.
+     */
+    private static final long MAX_EPOCH_SEKUNDE = Long.MAX_VALUE / DatumZeitScanner.NANOS_PRO_SEKUNDE - 1;
+
+    /**
+     * Parst eine Spalte von Datumswerten wie {@link InFormat#parseToLocalDate(String)} in Tage seit der
+     * Epoche ({@link LocalDate#toEpochDay()}).
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Tage seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static int[] parseToEpochDays(CharSequence[] texte, byte[] status) {
+        pruefeLaenge(texte.length, status);
+
+        int[] ergebnis = new int[texte.length];
+        for (int i = 0; i < texte.length; i++) {
+            ergebnis[i] = epochTag(texte[i], status, i);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datumswerten wie {@link InFormat#parseToLocalDate(String)} in Tage seit der
+     * Epoche ({@link LocalDate#toEpochDay()}).
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Tage seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static int[] parseToEpochDays(List<? extends CharSequence> texte, byte[] status) {
+        pruefeLaenge(texte.size(), status);
+
+        int[] ergebnis = new int[texte.size()];
+        int i = 0;
+        for (CharSequence text : texte) {
+            ergebnis[i] = epochTag(text, status, i);
+            i++;
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Zeitwerten wie {@link InFormat#parseToLocalTime(String)} in die Nanosekunde des
+     * Tages ({@link LocalTime#toNanoOfDay()}).
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunde des Tages je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToNanosOfDay(CharSequence[] texte, byte[] status) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        for (int i = 0; i < texte.length; i++) {
+            ergebnis[i] = nanoDesTages(texte[i], status, i);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Zeitwerten wie {@link InFormat#parseToLocalTime(String)} in die Nanosekunde des
+     * Tages ({@link LocalTime#toNanoOfDay()}).
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunde des Tages je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToNanosOfDay(List<? extends CharSequence> texte, byte[] status) {
+        pruefeLaenge(texte.size(), status);
+
+        long[] ergebnis = new long[texte.size()];
+        int i = 0;
+        for (CharSequence text : texte) {
+            ergebnis[i] = nanoDesTages(text, status, i);
+            i++;
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link InFormat#parseToLocalDateTime(String)} in
+     * Nanosekunden seit der Epoche. Die lokale Zeit wird dabei wie eine Zeit in UTC behandelt, ein
+     * angegebener Offset bzw. eine Zeitzone wird ignoriert.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToLocalEpochNanos(CharSequence[] texte, byte[] status) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        for (int i = 0; i < texte.length; i++) {
+            ergebnis[i] = lokaleEpochNanos(texte[i], status, i);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link InFormat#parseToLocalDateTime(String)} in
+     * Nanosekunden seit der Epoche. Die lokale Zeit wird dabei wie eine Zeit in UTC behandelt, ein
+     * angegebener Offset bzw. eine Zeitzone wird ignoriert.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToLocalEpochNanos(List<? extends CharSequence> texte, byte[] status) {
+        pruefeLaenge(texte.size(), status);
+
+        long[] ergebnis = new long[texte.size()];
+        int i = 0;
+        for (CharSequence text : texte) {
+            ergebnis[i] = lokaleEpochNanos(text, status, i);
+            i++;
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link InFormat#parseToZonedDateTime(String)} in
+     * Nanosekunden seit der Epoche, d.h. in den Zeitpunkt unter Berücksichtigung von Offset bzw. Zeitzone.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToEpochNanos(CharSequence[] texte, byte[] status) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        for (int i = 0; i < texte.length; i++) {
+            ergebnis[i] = epochNanos(texte[i], status, i);
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link InFormat#parseToZonedDateTime(String)} in
+     * Nanosekunden seit der Epoche, d.h. in den Zeitpunkt unter Berücksichtigung von Offset bzw. Zeitzone.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static long[] parseToEpochNanos(List<? extends CharSequence> texte, byte[] status) {
+        pruefeLaenge(texte.size(), status);
+
+        long[] ergebnis = new long[texte.size()];
+        int i = 0;
+        for (CharSequence text : texte) {
+            ergebnis[i] = epochNanos(text, status, i);
+            i++;
+        }
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datumswerten wie {@link #parseToEpochDays(CharSequence[], byte[])}, verteilt auf
+     * mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     * <p>
+     * Die Ergebnisse stehen unabhängig von der Ausführungsreihenfolge an der Position der jeweiligen Zeile.
+     * Kleine Spalten werden direkt im aufrufenden Thread geparst.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Tage seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     */
+    public static int[] parseToEpochDays(CharSequence[] texte, byte[] status, Executor executor) {
+        pruefeLaenge(texte.length, status);
+
+        int[] ergebnis = new int[texte.length];
+        parseParallel(texte.length, executor, (von, bis) -> {
+            for (int i = von; i < bis; i++) {
+                ergebnis[i] = epochTag(texte[i], status, i);
+            }
+        });
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datumswerten wie {@link #parseToEpochDays(List, byte[])}, verteilt auf mehrere
+     * Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Tage seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static int[] parseToEpochDays(List<? extends CharSequence> texte, byte[] status, Executor executor) {
+        return parseToEpochDays(texte.toArray(new CharSequence[0]), status, executor);
+    }
+
+    /**
+     * Parst eine Spalte von Zeitwerten wie {@link #parseToNanosOfDay(CharSequence[], byte[])}, verteilt auf
+     * mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunde des Tages je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToNanosOfDay(CharSequence[] texte, byte[] status, Executor executor) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        parseParallel(texte.length, executor, (von, bis) -> {
+            for (int i = von; i < bis; i++) {
+                ergebnis[i] = nanoDesTages(texte[i], status, i);
+            }
+        });
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Zeitwerten wie {@link #parseToNanosOfDay(List, byte[])}, verteilt auf mehrere
+     * Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunde des Tages je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToNanosOfDay(List<? extends CharSequence> texte, byte[] status,
+        Executor executor) {
+        return parseToNanosOfDay(texte.toArray(new CharSequence[0]), status, executor);
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link #parseToLocalEpochNanos(CharSequence[], byte[])},
+     * verteilt auf mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToLocalEpochNanos(CharSequence[] texte, byte[] status, Executor executor) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        parseParallel(texte.length, executor, (von, bis) -> {
+            for (int i = von; i < bis; i++) {
+                ergebnis[i] = lokaleEpochNanos(texte[i], status, i);
+            }
+        });
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link #parseToLocalEpochNanos(List, byte[])}, verteilt auf
+     * mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToLocalEpochNanos(List<? extends CharSequence> texte, byte[] status,
+        Executor executor) {
+        return parseToLocalEpochNanos(texte.toArray(new CharSequence[0]), status, executor);
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link #parseToEpochNanos(CharSequence[], byte[])}, verteilt
+     * auf mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToEpochNanos(CharSequence[] texte, byte[] status, Executor executor) {
+        pruefeLaenge(texte.length, status);
+
+        long[] ergebnis = new long[texte.length];
+        parseParallel(texte.length, executor, (von, bis) -> {
+            for (int i = von; i < bis; i++) {
+                ergebnis[i] = epochNanos(texte[i], status, i);
+            }
+        });
+        return ergebnis;
+    }
+
+    /**
+     * Parst eine Spalte von Datum/Zeit-Werten wie {@link #parseToEpochNanos(List, byte[])}, verteilt auf
+     * mehrere Abschnitte, die parallel auf dem {@code executor} ausgeführt werden.
+     *
+     * @param texte
+     *     die Texte, die geparst werden sollen, nicht null
+     * @param status
+     *     nimmt den Status je Zeile auf, nicht null, gleiche Länge wie {@code texte}
+     * @param executor
+     *     führt die Abschnitte aus, z.B. {@link java.util.concurrent.ForkJoinPool#commonPool()}, nicht null
+     * @return die Nanosekunden seit der Epoche je Zeile
+     * @throws IllegalArgumentException
+     *     wenn {@code status} nicht dieselbe Länge wie {@code texte} hat
+     * @see #parseToEpochDays(CharSequence[], byte[], Executor)
+     */
+    public static long[] parseToEpochNanos(List<? extends CharSequence> texte, byte[] status,
+        Executor executor) {
+        return parseToEpochNanos(texte.toArray(new CharSequence[0]), status, executor);
+    }
+
+    /**
+     * Teilt die Zeilen {@code 0} bis {@code anzahl} in Abschnitte auf, führt sie auf dem {@code executor} aus
+     * und wartet, bis alle Abschnitte geparst sind.
+     */
+    private static void parseParallel(int anzahl, Executor executor, Abschnitt abschnitt) {
+        Objects.requireNonNull(executor);
+
+        int abschnitte = (int) Math.min((anzahl + MIN_ABSCHNITT_GROESSE - 1L) / MIN_ABSCHNITT_GROESSE,
+            ABSCHNITTE_PRO_PROZESSOR * Runtime.getRuntime().availableProcessors());
+        if (abschnitte <= 1) {
+            abschnitt.parse(0, anzahl);
+            return;
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[abschnitte];
+        for (int a = 0; a < abschnitte; a++) {
+            int von = (int) ((long) anzahl * a / abschnitte);
+            int bis = (int) ((long) anzahl * (a + 1) / abschnitte);
+            futures[a] = CompletableFuture.runAsync(() -> abschnitt.parse(von, bis), executor);
+        }
+        try {
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Parst die Zeilen eines Abschnitts einer Spalte.
+     */
+    @FunctionalInterface
+    private interface Abschnitt {
+
+        void parse(int von, int bis);
+    }
+
+    private static void pruefeLaenge(int anzahl, byte[] status) {
+        if (status.length != anzahl) {
+            throw new IllegalArgumentException(
+                "Das Status-Array hat die Länge " + status.length + ", erwartet wurde " + anzahl + ".");
+        }
+    }
+
+    /**
+     * Parst ein Datum in den Tag seit der Epoche und setzt den Status der Zeile.
+     */
+    static int epochTag(CharSequence text, byte[] status, int zeile) {
+        if (text == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        return epochTag(text, 0, text.length(), status, zeile);
+    }
+
+    /**
+     * Parst ein Datum aus einem Bereich des Textes in den Tag seit der Epoche und setzt den Status der Zeile.
+     */
+    static int epochTag(CharSequence text, int von, int bis, byte[] status, int zeile) {
+        int datum = DatumZeitScanner.scanneDatum(text, von, bis);
+        if (datum >= 0) {
+            status[zeile] = GUELTIG;
+            return DatumZeitScanner.epochTag(datum);
+        }
+
+        LocalDate localDate =
+            datum == DatumZeitScanner.FEHLERHAFT ? null : InFormat.localDate(text, von, bis, false);
+        if (localDate == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        long epochTag = localDate.toEpochDay();
+        if (epochTag < Integer.MIN_VALUE || epochTag > Integer.MAX_VALUE) {
+            status[zeile] = AUSSERHALB_WERTEBEREICH;
+            return 0;
+        }
+        status[zeile] = GUELTIG;
+        return (int) epochTag;
+    }
+
+    /**
+     * Parst eine Zeit in die Nanosekunde des Tages und setzt den Status der Zeile.
+     */
+    static long nanoDesTages(CharSequence text, byte[] status, int zeile) {
+        if (text == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        return nanoDesTages(text, 0, text.length(), status, zeile);
+    }
+
+    /**
+     * Parst eine Zeit aus einem Bereich des Textes in die Nanosekunde des Tages und setzt den Status der Zeile.
+     */
+    static long nanoDesTages(CharSequence text, int von, int bis, byte[] status, int zeile) {
+        int ende = DatumZeitScanner.leerzeichen(text, von, bis);
+        long zeit = DatumZeitScanner.scanneZeit(text, von, ende);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, ende, bis);
+        if (zeit >= 0 && offset != DatumZeitScanner.OFFSET_UNGUELTIG) {
+            status[zeile] = GUELTIG;
+            return zeit;
+        }
+
+        LocalTime localTime =
+            zeit == DatumZeitScanner.FEHLERHAFT ? null : InFormat.localTime(text, von, bis, false);
+        if (localTime == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        status[zeile] = GUELTIG;
+        return localTime.toNanoOfDay();
+    }
+
+    /**
+     * Parst ein Datum/Zeit in Nanosekunden seit der Epoche ohne Berücksichtigung des Offsets und setzt den
+     * Status der Zeile.
+     */
+    static long lokaleEpochNanos(CharSequence text, byte[] status, int zeile) {
+        if (text == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        return epochNanos(text, 0, text.length(), status, zeile, false);
+    }
+
+    /**
+     * Parst ein Datum/Zeit mit Offset oder Zeitzone in Nanosekunden seit der Epoche und setzt den Status der
+     * Zeile.
+     */
+    static long epochNanos(CharSequence text, byte[] status, int zeile) {
+        if (text == null) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+        return epochNanos(text, 0, text.length(), status, zeile, true);
+    }
+
+    /**
+     * Parst ein Datum/Zeit aus einem Bereich des Textes in Nanosekunden seit der Epoche und setzt den Status
+     * der Zeile.
+     *
+     * @param mitOffset
+     *     true für den Zeitpunkt unter Berücksichtigung von Offset bzw. Zeitzone, false für die lokale Zeit
+     */
+    static long epochNanos(CharSequence text, int von, int bis, byte[] status, int zeile, boolean mitOffset) {
+        int datumEnde = DatumZeitScanner.leerzeichen(text, von, bis);
+        int zeitEnde = DatumZeitScanner.zeitEnde(text, datumEnde, bis);
+        int datum = DatumZeitScanner.scanneDatum(text, von, datumEnde);
+        long zeit = DatumZeitScanner.scanneZeitNachDatum(text, datumEnde, zeitEnde);
+        int offset = DatumZeitScanner.scanneOffsetSuffix(text, zeitEnde, bis);
+        if (datum == DatumZeitScanner.FEHLERHAFT || zeit == DatumZeitScanner.FEHLERHAFT) {
+            status[zeile] = UNGUELTIG;
+            return 0;
+        }
+
+        if (datum >= 0 && zeit >= 0 && offset != DatumZeitScanner.OFFSET_UNGUELTIG
+            && (!mitOffset || offset != DatumZeitScanner.OHNE_OFFSET && !DatumZeitScanner.istZone(offset))) {
+            long epochSekunde = DatumZeitScanner.epochTag(datum) * SEKUNDEN_PRO_TAG
+                + zeit / DatumZeitScanner.NANOS_PRO_SEKUNDE - (mitOffset ? offset : 0);
+            return nanos(epochSekunde, zeit % DatumZeitScanner.NANOS_PRO_SEKUNDE, status, zeile);
+        }
+
+        if (mitOffset) {
+            ZonedDateTime zonedDateTime = InFormat.zonedDateTime(text, von, bis, false);
+            if (zonedDateTime != null) {
+                return nanos(zonedDateTime.toEpochSecond(), zonedDateTime.getNano(), status, zeile);
+            }
+        } else {
+            LocalDateTime localDateTime = InFormat.localDateTime(text, von, bis, false);
+            if (localDateTime != null) {
+                long epochSekunde = localDateTime.toEpochSecond(ZoneOffset.UTC);
+                return nanos(epochSekunde, localDateTime.getNano(), status, zeile);
+            }
+        }
+        status[zeile] = UNGUELTIG;
+        return 0;
+    }
+
+    private static long nanos(long epochSekunde, long nano, byte[] status, int zeile) {
+        if (epochSekunde < MIN_EPOCH_SEKUNDE || epochSekunde > MAX_EPOCH_SEKUNDE) {
+            status[zeile] = AUSSERHALB_WERTEBEREICH;
+            return 0;
+        }
+        status[zeile] = GUELTIG;
+        return epochSekunde * DatumZeitScanner.NANOS_PRO_SEKUNDE + nano;
+    }
+}
@@ -0,0 +1,165 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import de.bund.bva.isyfact.datetime.util.DateTimeUtil;
+
+/**
+ * Formatiert die aktuelle Zeit der {@link DateTimeUtil#getClock() Uhr} als Zeitstempel im Format
+ * {@link OutFormat#DATUM_ZEIT} oder {@link OutFormat#DATUM_ZEIT_ZONE}, z.B. für Audit-Logs und Protokolle.
+ * <p>
+ * Beide Formate enthalten höchstens Sekunden, sodass alle Aufrufe innerhalb derselben Sekunde denselben
+ * String liefern. Dieser wird zwischengespeichert. Beginnt eine neue Sekunde am selben Tag und mit
+ * demselben Offset, werden nur die Ziffern der Zeit im zwischengespeicherten Zeitstempel neu geschrieben,
+ * Datum und Offset bleiben erhalten. Das Ergebnis entspricht immer
+ * {@code format.format(ZonedDateTime.now(DateTimeUtil.getClock()))}.
+ * <p>
+ * Die Klasse ist thread-sicher. Der Zwischenspeicher wird als unveränderliches Objekt ausgetauscht, sodass
+ * keine Sperren nötig sind.
+ */
+public final class ZeitstempelFormat {
+
+    private static final int SEKUNDEN_PRO_TAG = 86400;
+
+    /**
+     * Position der Stunden im Zeitstempel ({@code dd.MM.uuuu HH:mm:ss}).
+     */
+    private static final int ZEIT_ANFANG = 11;
+
+    private final DateTimeFormatter format;
+
+    private volatile Zeitstempel letzter;
+
+    private ZeitstempelFormat(DateTimeFormatter format) {
+        this.format = format;
+    }
+
+    /**
+     * Erstellt ein Format für Zeitstempel im Format {@link OutFormat#DATUM_ZEIT}.
+     *
+     * @return das Format, nicht null
+     */
+    public static ZeitstempelFormat fuerDatumZeit() {
+        return new ZeitstempelFormat(OutFormat.DATUM_ZEIT);
+    }
+
+    /**
+     * Erstellt ein Format für Zeitstempel im Format {@link OutFormat#DATUM_ZEIT_ZONE}.
+     *
+     * @return das Format, nicht null
+     */
+    public static ZeitstempelFormat fuerDatumZeitZone() {
+        return new ZeitstempelFormat(OutFormat.DATUM_ZEIT_ZONE);
+    }
+
+    /**
+     * Liefert das Format der Zeitstempel.
+     *
+     * @return {@link OutFormat#DATUM_ZEIT} oder {@link OutFormat#DATUM_ZEIT_ZONE}, nicht null
+     */
+    public DateTimeFormatter getFormat() {
+        return format;
+    }
+
+    /**
+     * Formatiert die aktuelle Zeit der {@link DateTimeUtil#getClock() Uhr}.
+     *
+     * @return der Zeitstempel, nicht null
+     */
+    public String jetzt() {
+        Clock uhr = DateTimeUtil.getClock();
+        long sekunde = Math.floorDiv(uhr.millis(), 1000);
+        ZoneId zone = uhr.getZone();
+
+        Zeitstempel zeitstempel = letzter;
+        if (zeitstempel != null && zeitstempel.sekunde == sekunde && zeitstempel.zone.equals(zone)) {
+            return zeitstempel.text;
+        }
+
+        Instant instant = Instant.ofEpochSecond(sekunde);
+        ZoneOffset offset = zone.getRules().getOffset(instant);
+        long lokaleSekunde = sekunde + offset.getTotalSeconds();
+        if (zeitstempel != null && zeitstempel.ascii != null && zeitstempel.zone.equals(zone)
+            && zeitstempel.offset.equals(offset)
+            && Math.floorDiv(zeitstempel.lokaleSekunde, SEKUNDEN_PRO_TAG)
+            == Math.floorDiv(lokaleSekunde, SEKUNDEN_PRO_TAG)) {
+            zeitstempel = zeitstempel.mitZeit(sekunde, lokaleSekunde);
+        } else {
+            ZonedDateTime datumZeit = ZonedDateTime.ofInstant(instant, zone);
+            zeitstempel = new Zeitstempel(sekunde, lokaleSekunde, zone, offset, datumZeit, format);
+        }
+        letzter = zeitstempel;
+        return zeitstempel.text;
+    }
+
+    @Override
+    public String toString() {
+        return format.toString();
+    }
+
+    /**
+     * Ein formatierter Zeitstempel für eine Sekunde.
+     */
+    private static final class Zeitstempel {
+
+        private final long sekunde;
+
+        private final long lokaleSekunde;
+
+        private final ZoneId zone;
+
+        private final ZoneOffset offset;
+
+        /**
+         * Die ASCII-Zeichen des Zeitstempels oder null, wenn er nur mit dem {@link DateTimeFormatter}
+         * geschrieben werden konnte.
+         */
+        private final byte[] ascii;
+
+        private final String text;
+
+        private Zeitstempel(long sekunde, long lokaleSekunde, ZoneId zone, ZoneOffset offset, byte[] ascii) {
+            this.sekunde = sekunde;
+            this.lokaleSekunde = lokaleSekunde;
+            this.zone = zone;
+            this.offset = offset;
+            this.ascii = ascii;
+            this.text = new String(ascii, StandardCharsets.US_ASCII);
+        }
+
+        private Zeitstempel(long sekunde, long lokaleSekunde, ZoneId zone, ZoneOffset offset,
+            ZonedDateTime datumZeit, DateTimeFormatter format) {
+            this.sekunde = sekunde;
+            this.lokaleSekunde = lokaleSekunde;
+            this.zone = zone;
+            this.offset = offset;
+            byte[] ascii = new byte[DatumZeitSchreiber.laenge(format)];
+            if (DatumZeitSchreiber.schreibe(format, datumZeit, ascii, 0) > 0) {
+                this.ascii = ascii;
+                this.text = new String(ascii, StandardCharsets.US_ASCII);
+            } else {
+                this.ascii = null;
+                this.text = format.format(datumZeit);
+            }
+        }
+
+        /**
+         * Liefert den Zeitstempel für eine andere Sekunde desselben Tages, in dem nur die Zeit neu geschrieben
+         * wird.
+         */
+        private Zeitstempel mitZeit(long sekunde, long lokaleSekunde) {
+            int sekundeDesTages = Math.floorMod(lokaleSekunde, SEKUNDEN_PRO_TAG);
+            byte[] neu = ascii.clone();
+            DatumZeitSchreiber.zweiZiffern(sekundeDesTages / 3600, neu, ZEIT_ANFANG);
+            DatumZeitSchreiber.zweiZiffern(sekundeDesTages / 60 % 60, neu, ZEIT_ANFANG + 3);
+            DatumZeitSchreiber.zweiZiffern(sekundeDesTages % 60, neu, ZEIT_ANFANG + 6);
+            return new Zeitstempel(sekunde, lokaleSekunde, zone, offset, neu);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Unveränderlicher, vorab aufgebauter Index der Zeitzonen-IDs für die Zeitzone im Muster {@code [ z]} von
+ * {@link InFormat}.
+ * <p>
+ * Der {@link java.time.format.DateTimeFormatter} baut beim ersten Parsen einer Zeitzone einen Suchbaum über
+ * alle IDs und lokalisierten Namen auf und durchsucht ihn bei jedem Aufruf. Der Index enthält dagegen nur die
+ * regionalen IDs (z.B. {@code Europe/Berlin}) und findet sie über eine Hashtabelle, ohne Zwischenobjekte zu
+ * erzeugen. Für diese IDs liefert der {@link java.time.format.DateTimeFormatter} unabhängig von der
+ * {@link java.util.Locale} immer {@link ZoneId#of(String)}.
+ * <p>
+ * Lokalisierte Namen wie {@code MEZ} oder {@code CET} hängen von der {@link java.util.Locale} und den
+ * Zeitzonendaten des JDK ab, ebenso IDs ohne Region wie {@code CET} (liefert je nach Locale
+ * {@code Europe/Paris}) und die IDs unter {@code Etc/} und {@code SystemV/}, die der
+ * {@link java.time.format.DateTimeFormatter} nicht vollständig liest. Sie sind nicht im Index und werden
+ * weiterhin mit dem {@link java.time.format.DateTimeFormatter} geparst.
+ * <p>
+ * Der Index wird beim ersten Zugriff auf die Klasse aufgebaut.
+ */
+final class Zeitzonen {
+
+    /**
+     * Die IDs, abgelegt an der Position ihres Hashwerts bzw. der nächsten freien Position.
+     */
+    private static final String[] IDS;
+
+    /**
+     * Die Zeitzonen zu den IDs an derselben Position.
+     */
+    private static final ZoneId[] ZONEN;
+
+    private static final int MASKE;
+
+    static {
+        Set<String> ids = new TreeSet<>();
+        for (String id : ZoneId.getAvailableZoneIds()) {
+            if (id.indexOf('/') > 0 && !id.startsWith("Etc/") && !id.startsWith("SystemV/")) {
+                ids.add(id);
+            }
+        }
+
+        int groesse = Integer.highestOneBit(ids.size() * 4);
+        IDS = new String[groesse];
+        ZONEN = new ZoneId[groesse];
+        MASKE = groesse - 1;
+        for (String id : ids) {
+            int index = hash(id, 0, id.length()) & MASKE;
+            while (IDS[index] != null) {
+                index = (index + 1) & MASKE;
+            }
+            IDS[index] = id;
+            ZONEN[index] = ZoneId.of(id);
+        }
+    }
+
+    private Zeitzonen() {
+    }
+
+    /**
+     * Sucht eine Zeitzonen-ID in einem Bereich des Textes.
+     *
+     * @param text
+     *     der Text, nicht null
+     * @param von
+     *     Anfang des Bereichs (inklusive)
+     * @param bis
+     *     Ende des Bereichs (exklusive)
+     * @return die Position der ID im Index (siehe {@link #zone(int)}) oder -1, wenn der Bereich keine ID aus
+     * dem Index ist
+     */
+    static int suche(CharSequence text, int von, int bis) {
+        int index = hash(text, von, bis) & MASKE;
+        String id;
+        while ((id = IDS[index]) != null) {
+            if (gleich(id, text, von, bis)) {
+                return index;
+            }
+            index = (index + 1) & MASKE;
+        }
+        return -1;
+    }
+
+    /**
+     * @param index
+     *     die Position einer ID im Index, siehe {@link #suche(CharSequence, int, int)}
+     * @return die Zeitzone
+     */
+    static ZoneId zone(int index) {
+        return ZONEN[index];
+    }
+
+    /**
+     * Berechnet den Hashwert wie {@link String#hashCode()} und verteilt die oberen Bits auf die unteren.
+     */
+    private static int hash(CharSequence text, int von, int bis) {
+        int hash = 0;
+        for (int i = von; i < bis; i++) {
+            hash = 31 * hash + text.charAt(i);
+        }
+        return hash ^ hash >>> 16;
+    }
+
+    private static boolean gleich(String id, CharSequence text, int von, int bis) {
+        if (id.length() != bis - von) {
+            return false;
+        }
+        for (int i = 0; i < id.length(); i++) {
+            if (id.charAt(i) != text.charAt(von + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
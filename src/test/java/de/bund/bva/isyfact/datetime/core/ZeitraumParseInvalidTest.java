@@ -34,7 +34,7 @@ public class ZeitraumParseInvalidTest {
     public static Collection<Object> data() {
         return Arrays.asList("", ",", " , ", "12.7.2017 14:00", ", 13.09.2018 15:45",
             "12.7.2017 14:00; 13.09.2018 15:45", "12.7.2017 14:00, 15:45", "12.07.2017, 15:45",
-            "12.07.2017, 5h", "14:00:00, 12.07.2017", "14:00, 7d");
+            "12.07.2017, 5h", "14:00:00, 12.07.2017", "14:00, 7d", "14:00, 99999999999h");
     }
 
     @Parameterized.Parameter
@@ -0,0 +1,149 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import de.bund.bva.isyfact.datetime.format.DateiSpaltenParser.Spaltentyp;
+import de.bund.bva.isyfact.datetime.format.DateiSpaltenParser.Spaltenwerte;
+
+public class DateiSpaltenParserTest {
+
+    private static final byte OK = SpaltenParser.GUELTIG;
+
+    private static final byte FEHLER = SpaltenParser.UNGUELTIG;
+
+    @Rule
+    public TemporaryFolder ordner = new TemporaryFolder();
+
+    @Test
+    public void parse() throws IOException {
+        Path datei = datei("id;datum;zeit\r\n4711;1.8.2017;12:00\r\n4712;32.8.2017;24:00\n\n4713\n"
+            + "4714;01.01.2018;1:2\n");
+
+        Spaltenwerte werte =
+            DateiSpaltenParser.parse(datei, ';', 1, Spaltentyp.DATUM, ForkJoinPool.commonPool());
+
+        assertEquals(6, werte.getAnzahlZeilen());
+        assertArrayEquals(new long[] { 0, LocalDate.of(2017, 8, 1).toEpochDay(), 0, 0, 0,
+            LocalDate.of(2018, 1, 1).toEpochDay() }, werte.getWerte());
+        assertArrayEquals(new byte[] { FEHLER, OK, FEHLER, FEHLER, FEHLER, OK }, werte.getStatus());
+    }
+
+    @Test
+    public void parseLetzteSpalteOhneZeilenumbruch() throws IOException {
+        Path datei = datei("1.8.2017;12:00:01\r\n2.8.2017;13:00");
+
+        Spaltenwerte werte = DateiSpaltenParser.parse(datei, ';', 1, Spaltentyp.ZEIT, Runnable::run);
+
+        assertArrayEquals(new long[] { 43_201_000_000_000L, 46_800_000_000_000L }, werte.getWerte());
+        assertArrayEquals(new byte[] { OK, OK }, werte.getStatus());
+    }
+
+    @Test
+    public void parseAbschnitteWieSpaltenParser() throws IOException {
+        List<String> zeilen = zeilen(20_000);
+        Path datei = datei(String.join("\n", zeilen) + "\n");
+        String[] texte = zeilen.stream().map(zeile -> zeile.split(",")[1])
+            .toArray(String[]::new);
+        byte[] status = new byte[texte.length];
+        long[] erwartet = SpaltenParser.parseToEpochNanos(texte, status);
+
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            for (long abschnittGroesse : new long[] { 1, 7, 4096, 1 << 20 }) {
+                Spaltenwerte werte = DateiSpaltenParser.parse(datei, ',', 1, Spaltentyp.DATUM_ZEIT_ZONE,
+                    executor, abschnittGroesse);
+
+                assertArrayEquals(erwartet, werte.getWerte());
+                assertArrayEquals(status, werte.getStatus());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void zaehle() throws IOException {
+        List<String> zeilen = zeilen(10_000);
+        Path datei = datei(String.join("\r\n", zeilen));
+        byte[] status = new byte[zeilen.size()];
+        SpaltenParser.parseToLocalEpochNanos(zeilen.stream().map(zeile -> zeile.split(",")[1])
+            .toArray(String[]::new), status);
+        long[] erwartet = new long[3];
+        for (byte s : status) {
+            erwartet[s]++;
+        }
+
+        long[] anzahl =
+            DateiSpaltenParser.zaehle(datei, ',', 1, Spaltentyp.DATUM_ZEIT, ForkJoinPool.commonPool(), 4096);
+
+        assertArrayEquals(erwartet, anzahl);
+    }
+
+    @Test
+    public void grenzenAnZeilenanfaengen() throws IOException {
+        Path datei = datei("a\nbb\n\nccc\n");
+
+        try (FileChannel kanal = FileChannel.open(datei, StandardOpenOption.READ)) {
+            assertArrayEquals(new long[] { 0, 2, 5, 6, 10 }, DateiSpaltenParser.grenzen(kanal, 1));
+            assertArrayEquals(new long[] { 0, 5, 6, 10 }, DateiSpaltenParser.grenzen(kanal, 4));
+            assertArrayEquals(new long[] { 0, 10 }, DateiSpaltenParser.grenzen(kanal, 100));
+        }
+    }
+
+    @Test
+    public void leereDatei() throws IOException {
+        Path datei = datei("");
+
+        assertEquals(0, DateiSpaltenParser.parse(datei, ';', 0, Spaltentyp.DATUM, Runnable::run)
+            .getAnzahlZeilen());
+        assertArrayEquals(new long[3],
+            DateiSpaltenParser.zaehle(datei, ';', 0, Spaltentyp.DATUM, Runnable::run));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void trennzeichenKeinAscii() throws IOException {
+        DateiSpaltenParser.parse(datei("1.1.2017"), '§', 0, Spaltentyp.DATUM, Runnable::run);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void ohneExecutor() throws IOException {
+        DateiSpaltenParser.zaehle(datei("1.1.2017"), ';', 0, Spaltentyp.DATUM, null);
+    }
+
+    private Path datei(String inhalt) throws IOException {
+        Path datei = ordner.newFile().toPath();
+        Files.write(datei, inhalt.getBytes(StandardCharsets.US_ASCII));
+        return datei;
+    }
+
+    /**
+     * Erzeugt Zeilen mit gültigen und ungültigen Werten in der zweiten Spalte.
+     */
+    private static List<String> zeilen(int anzahl) {
+        String[] endungen = { " +01:00", " Europe/Berlin,x", " UTC", "x" };
+        List<String> zeilen = new ArrayList<>();
+        for (int i = 0; i < anzahl; i++) {
+            zeilen.add(i + "," + (1 + i % 28) + "." + (1 + i % 12) + "." + (1900 + i % 300) + " " + (i % 24)
+                + ":" + (i % 60) + ":" + (i % 59) + "." + i % 1000 + endungen[i % endungen.length]);
+        }
+        return zeilen;
+    }
+}
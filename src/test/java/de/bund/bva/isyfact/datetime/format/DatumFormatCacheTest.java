@@ -0,0 +1,73 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.After;
+import org.junit.Test;
+
+import de.bund.bva.isyfact.datetime.test.TestClock;
+import de.bund.bva.isyfact.datetime.util.DateTimeUtil;
+
+public class DatumFormatCacheTest {
+
+    @After
+    public void uhrZuruecksetzen() {
+        DateTimeUtil.setClock(Clock.systemDefaultZone());
+    }
+
+    @Test
+    public void fuerDatum() {
+        DateTimeUtil.setClock(TestClock.at(LocalDateTime.of(2017, 7, 3, 9, 5)));
+        DatumFormatCache cache = DatumFormatCache.fuerDatum();
+
+        assertEquals(LocalDate.of(1917, 7, 3), cache.getAnfang());
+        assertEquals(LocalDate.of(2117, 7, 3), cache.getEnde());
+        assertSame(OutFormat.DATUM, cache.getFormat());
+        String datum = cache.format(LocalDate.of(2017, 8, 1));
+        assertEquals("01.08.2017", datum);
+        assertSame(datum, cache.format(LocalDate.of(2017, 8, 1)));
+    }
+
+    @Test
+    public void formatWieFormatter() {
+        for (DatumFormatCache cache : new DatumFormatCache[] { DatumFormatCache.fuerDatum(),
+            DatumFormatCache.fuerIsoDatum(),
+            DatumFormatCache.of(OutFormat.DATUM, LocalDate.of(9990, 1, 1), LocalDate.of(10010, 1, 1)) }) {
+            LocalDate[] datumswerte = { cache.getAnfang(), cache.getEnde(), cache.getAnfang().minusDays(1),
+                cache.getEnde().plusDays(1), LocalDate.MIN, LocalDate.MAX, LocalDate.of(0, 1, 1) };
+            for (LocalDate datum : datumswerte) {
+                pruefe(cache, datum);
+            }
+            LocalDate ende = cache.getEnde();
+            for (LocalDate datum = cache.getAnfang(); datum.isBefore(ende); datum = datum.plusDays(3)) {
+                pruefe(cache, datum);
+                pruefe(cache, datum);
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void formatNichtUnterstuetzt() {
+        DatumFormatCache.of(OutFormat.DATUM_ZEIT, LocalDate.of(2000, 1, 1), LocalDate.of(2001, 1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void anfangNachEnde() {
+        DatumFormatCache.of(OutFormat.DATUM, LocalDate.of(2001, 1, 1), LocalDate.of(2000, 1, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zeitraumZuLang() {
+        DatumFormatCache.of(DateTimeFormatter.ISO_LOCAL_DATE, 501);
+    }
+
+    private static void pruefe(DatumFormatCache cache, LocalDate datum) {
+        assertEquals(datum.toString(), cache.getFormat().format(datum), cache.format(datum));
+    }
+}
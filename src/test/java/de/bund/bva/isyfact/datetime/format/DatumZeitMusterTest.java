@@ -0,0 +1,157 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Prüft, dass {@link DatumZeitMuster} beim Formatieren und Parsen dieselben Ergebnisse und Exceptions
+ * liefert wie der {@link DateTimeFormatter} zum Muster.
+ */
+@RunWith(Parameterized.class)
+public class DatumZeitMusterTest {
+
+    private static final LocalDateTime DATUM_ZEIT = LocalDateTime.of(2017, 7, 3, 9, 5, 7, 123_456_789);
+
+    private static final List<TemporalAccessor> WERTE = Arrays.asList(DATUM_ZEIT, DATUM_ZEIT.toLocalDate(),
+        DATUM_ZEIT.toLocalTime(), LocalDateTime.of(1, 1, 1, 0, 0), LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+        LocalDateTime.of(1999, 10, 10, 10, 10), LocalDate.of(0, 1, 1), LocalDate.of(10000, 1, 1),
+        LocalDate.of(-5, 1, 1), ZonedDateTime.of(DATUM_ZEIT, ZoneId.of("Europe/Berlin")),
+        OffsetDateTime.of(DATUM_ZEIT, ZoneOffset.ofHours(2)), OffsetTime.of(12, 0, 0, 0, ZoneOffset.UTC));
+
+    private static final String[] EINGABEN = { "", "x", "1.8.2017", "01.08.2017", "31.02.2017", "31.02.2016",
+        "32.01.2017", "01.13.2017", "00.01.2017", "001.1.2017", "1.8.17", "1.8.-17", "01.08.20170",
+        "2017-08-01", "20170801", "170801", "17383922", "110072512", "12:00", "1:05", "12:00:30", "24:00",
+        "24:00:00", "23:60", "12:00:30.5", "12:00:30.123", "12:00:30.123456789", "01.08.2017 12:00",
+        "01.08.2017 24:00", "1.8.2017 9:05:07",
+        "01.08.2017 um 12:00", "01.08.2017T12:00:00.123", "0001-01-01", "0000-01-01", "99.99.99 99:99" };
+
+    private final String muster;
+
+    public DatumZeitMusterTest(String muster) {
+        this.muster = muster;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> muster() {
+        return Arrays.asList(new Object[][] { { "dd.MM.uuuu" }, { "d.M.u" }, { "d.M.uu" }, { "dd.MM.yyyy" },
+            { "d.M.y" }, { "dd.MM.yy" }, { "uuuu-MM-dd" }, { "uuuuMMdd" }, { "yyMMdd" }, { "ddMMuuuu" },
+            { "HH:mm" }, { "H:mm" }, { "H:m" }, { "HH:mm:ss" }, { "HH:mm:ss.S" }, { "HH:mm:ss.SSS" },
+            { "HH:mm:ss.SSSSSSSSS" }, { "dd.MM.uuuu HH:mm" }, { "d.M.uuuu H:mm:ss" },
+            { "dd.MM.uuuu 'um' HH:mm" }, { "dd.MM.uuuu'T'HH:mm:ss.SSS" }, { "''dd''.MM.uuuu" },
+            { "dd.MM.uuuu[ HH:mm]" }, { "dd. MMMM uuuu" }, { "EEE dd.MM.uuuu" }, { "dd.MM.uuuu HH:mm xxx" },
+            { "hh:mm a" }, { "dd.MM.uuuu mm" }, { "dd.MM.yyyy.uuuu" }, { "dd.MM" }, { "HH" },
+            { "uuuummH" }, { "MM0yyyyd" }, { "uuuuMMdd'0'" }, { "HHmmssS" } });
+    }
+
+    @Test
+    public void format() {
+        DatumZeitMuster format = DatumZeitMuster.of(muster);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(muster, Locale.GERMAN);
+
+        for (TemporalAccessor wert : WERTE) {
+            pruefe(wert.toString(), () -> formatter.format(wert), () -> format.format(wert));
+        }
+    }
+
+    @Test
+    public void parse() {
+        DatumZeitMuster format = DatumZeitMuster.of(muster);
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern(muster, Locale.GERMAN);
+
+        Set<String> eingaben = new LinkedHashSet<>(Arrays.asList(EINGABEN));
+        for (TemporalAccessor wert : WERTE) {
+            try {
+                eingaben.add(formatter.format(wert));
+            } catch (DateTimeException e) {
+                // Der Wert enthält nicht alle Felder des Musters.
+            }
+        }
+
+        for (String eingabe : eingaben) {
+            pruefeParse(eingabe, formatter, LocalDate::from, format::parseToLocalDate);
+            pruefeParse(eingabe, formatter, LocalTime::from, format::parseToLocalTime);
+            pruefeParse(eingabe, formatter, LocalDateTime::from, format::parseToLocalDateTime);
+        }
+    }
+
+    @Test
+    public void uebersetzt() {
+        assertTrue(DatumZeitMuster.of("dd.MM.uuuu 'um' HH:mm").istUebersetzt());
+        assertFalse(DatumZeitMuster.of("dd. MMMM uuuu").istUebersetzt());
+        assertFalse(DatumZeitMuster.of("dd.MM.uuuu[ HH:mm]").istUebersetzt());
+    }
+
+    @Test
+    public void deutscheNamen() {
+        DatumZeitMuster format = DatumZeitMuster.of("EEEE, dd. MMMM uuuu");
+
+        assertEquals("Mittwoch, 01. März 2017", format.format(LocalDate.of(2017, 3, 1)));
+        assertEquals(LocalDate.of(2017, 3, 1), format.parseToLocalDate("Mittwoch, 01. März 2017"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void musterUngueltig() {
+        DatumZeitMuster.of("dd.MM.uuuu {");
+    }
+
+    private static <T> void pruefeParse(String eingabe, DateTimeFormatter formatter, TemporalQuery<T> query,
+        Function<String, T> parse) {
+        pruefe(eingabe, () -> formatter.parse(eingabe, query), () -> parse.apply(eingabe));
+    }
+
+    /**
+     * Prüft, dass beide Aufrufe dasselbe Ergebnis oder dieselbe Exception liefern.
+     */
+    private static void pruefe(String beschreibung, Aufruf erwartet, Aufruf tatsaechlich) {
+        Object ergebnis;
+        try {
+            ergebnis = erwartet.aufrufen();
+        } catch (DateTimeException e) {
+            try {
+                tatsaechlich.aufrufen();
+                fail(beschreibung);
+            } catch (DateTimeException f) {
+                assertEquals(beschreibung, e.getClass(), f.getClass());
+                assertEquals(beschreibung, e.getMessage(), f.getMessage());
+                if (e instanceof DateTimeParseException) {
+                    assertEquals(beschreibung, ((DateTimeParseException) e).getErrorIndex(),
+                        ((DateTimeParseException) f).getErrorIndex());
+                }
+            }
+            return;
+        }
+        assertEquals(beschreibung, ergebnis, tatsaechlich.aufrufen());
+    }
+
+    private interface Aufruf {
+
+        Object aufrufen();
+    }
+}
@@ -0,0 +1,92 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.Test;
+
+public class FestbreitenScannerTest {
+
+    private static final int UNGUELTIG = DatumZeitScanner.UNGUELTIG;
+
+    @Test
+    public void scanneDatum() {
+        assertEquals(datum(2017, 8, 1), FestbreitenScanner.scanneDatum("01.08.2017", 0));
+        assertEquals(datum(9999, 12, 31), FestbreitenScanner.scanneDatum("x31.12.9999", 1));
+        assertEquals(datum(0, 1, 1), FestbreitenScanner.scanneDatum("01.01.0000", 0));
+        assertEquals(datum(2017, 2, 28), FestbreitenScanner.scanneDatum("31.02.2017", 0));
+        assertEquals(datum(2016, 2, 29), FestbreitenScanner.scanneDatum("30.02.2016", 0));
+    }
+
+    @Test
+    public void scanneDatumUngueltig() {
+        for (String text : new String[] { "00.08.2017", "32.08.2017", "01.00.2017", "01.13.2017", "01-08-2017",
+            "0a.08.2017", "01.08.201x", "01.08.20:7", "1.08.20170", "01.08.2017".replace('7', '٧'),
+            "01.0¸.2017", "İ1.08.2017" }) {
+            assertEquals(text, UNGUELTIG, FestbreitenScanner.scanneDatum(text, 0));
+        }
+    }
+
+    @Test
+    public void scanneZeit() {
+        assertEquals(0, FestbreitenScanner.scanneZeit("00:00:00", 0));
+        assertEquals(86_399, FestbreitenScanner.scanneZeit("23:59:59", 0));
+        assertEquals(5025, FestbreitenScanner.scanneZeit("1.8.2017 01:23:45", 9));
+    }
+
+    @Test
+    public void scanneZeitUngueltig() {
+        for (String text : new String[] { "24:00:00", "23:60:00", "23:59:60", "23.59.59", "2:59:59 ",
+            "23:5:590", "99:99:99", "٠٠:00:00" }) {
+            assertEquals(text, UNGUELTIG, FestbreitenScanner.scanneZeit(text, 0));
+        }
+    }
+
+    @Test
+    public void scanneBytes() {
+        byte[] zeile = "4711;01.08.2017;01:23:45".getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(datum(2017, 8, 1), FestbreitenScanner.scanneDatum(ascii(zeile), 5));
+        assertEquals(5025, FestbreitenScanner.scanneZeit(ascii(zeile), 16));
+
+        for (ByteOrder reihenfolge : new ByteOrder[] { ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN }) {
+            ByteBuffer direkt = ByteBuffer.allocateDirect(zeile.length).order(reihenfolge);
+            direkt.put(zeile).flip();
+            AsciiZeichenfolge text = AsciiZeichenfolge.von(direkt);
+
+            assertEquals(datum(2017, 8, 1), FestbreitenScanner.scanneDatum(text, 5));
+            assertEquals(5025, FestbreitenScanner.scanneZeit(text, 16));
+            assertEquals(reihenfolge, direkt.order());
+        }
+    }
+
+    @Test
+    public void scanneBytesUngueltig() {
+        byte[] zeile = "01.08.2017".getBytes(StandardCharsets.US_ASCII);
+        zeile[3] = (byte) 0xB0;
+
+        assertEquals(UNGUELTIG, FestbreitenScanner.scanneDatum(ascii(zeile), 0));
+    }
+
+    @Test
+    public void parseWieFormatter() {
+        assertEquals(LocalDate.of(2017, 2, 28), InFormat.parseToLocalDate("31.02.2017"));
+        assertEquals(LocalTime.of(23, 59, 59), InFormat.parseToLocalTime("23:59:59"));
+        assertEquals(LocalTime.MIDNIGHT, InFormat.parseToLocalTime("24:00:00"));
+        assertEquals(LocalDate.of(2017, 8, 1),
+            InFormat.parseToLocalDate("01.08.2017".getBytes(StandardCharsets.US_ASCII), 0, 10));
+    }
+
+    private static AsciiZeichenfolge ascii(byte[] bytes) {
+        return AsciiZeichenfolge.von(bytes, 0, bytes.length);
+    }
+
+    private static int datum(int jahr, int monat, int tag) {
+        return (jahr << 9) | (monat << 5) | tag;
+    }
+}
@@ -0,0 +1,71 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Test;
+
+public class InFormatParseAsciiTest {
+
+    private static final ZoneOffset OFFSET = ZoneOffset.ofHoursMinutes(2, 30);
+
+    private static final byte[] ZEILE =
+        "4711;01.08.2017;1:23:45 +02:30;1.8.2017 1:23 +02:30;1.8.2017 1:23 Europe/Berlin"
+            .getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    public void parseByteArray() {
+        assertEquals(LocalDate.of(2017, 8, 1), InFormat.parseToLocalDate(ZEILE, 5, 10));
+        assertEquals(LocalTime.of(1, 23, 45), InFormat.parseToLocalTime(ZEILE, 16, 14));
+        assertEquals(OffsetTime.of(1, 23, 45, 0, OFFSET), InFormat.parseToOffsetTime(ZEILE, 16, 14));
+        assertEquals(LocalDateTime.of(2017, 8, 1, 1, 23), InFormat.parseToLocalDateTime(ZEILE, 31, 20));
+        assertEquals(OffsetDateTime.of(2017, 8, 1, 1, 23, 0, 0, OFFSET),
+            InFormat.parseToOffsetDateTime(ZEILE, 31, 20));
+        assertEquals(ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneId.of("Europe/Berlin")),
+            InFormat.parseToZonedDateTime(ZEILE, 52, 27));
+    }
+
+    @Test
+    public void parseByteBuffer() {
+        ByteBuffer puffer = ByteBuffer.wrap(ZEILE);
+        puffer.position(5).limit(15);
+        assertEquals(LocalDate.of(2017, 8, 1), InFormat.parseToLocalDate(puffer));
+        assertEquals(5, puffer.position());
+
+        ByteBuffer direkt = ByteBuffer.allocateDirect(ZEILE.length);
+        direkt.put(ZEILE).position(31).limit(51);
+        assertEquals(OffsetDateTime.of(2017, 8, 1, 1, 23, 0, 0, OFFSET), InFormat.parseToOffsetDateTime(direkt));
+        assertEquals(31, direkt.position());
+
+        direkt.position(16).limit(30);
+        assertEquals(OffsetTime.of(1, 23, 45, 0, OFFSET), InFormat.parseToOffsetTime(direkt.slice()));
+    }
+
+    @Test
+    public void parseUngueltigeBytes() {
+        byte[] utf8 = "x1.8.2017ä".getBytes(StandardCharsets.UTF_8);
+        try {
+            InFormat.parseToLocalDate(utf8, 1, utf8.length - 1);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals(8, e.getErrorIndex());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parseBereichAusserhalbDesArrays() {
+        InFormat.parseToLocalDate(ZEILE, 75, 10);
+    }
+}
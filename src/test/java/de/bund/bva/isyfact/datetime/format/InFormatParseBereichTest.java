@@ -0,0 +1,73 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.nio.CharBuffer;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+
+import org.junit.Test;
+
+public class InFormatParseBereichTest {
+
+    private static final ZoneOffset OFFSET = ZoneOffset.ofHoursMinutes(2, 30);
+
+    @Test
+    public void parseBereichAusStringBuilder() {
+        StringBuilder zeile = new StringBuilder("4711;01.08.2017;1:23:45;1.8.2017 1:23 +02:30;ende");
+
+        assertEquals(LocalDate.of(2017, 8, 1), InFormat.parseToLocalDate(zeile, 5, 15));
+        assertEquals(LocalTime.of(1, 23, 45), InFormat.parseToLocalTime(zeile, 16, 23));
+        assertEquals(LocalDateTime.of(2017, 8, 1, 1, 23), InFormat.parseToLocalDateTime(zeile, 24, 44));
+        assertEquals(OffsetDateTime.of(2017, 8, 1, 1, 23, 0, 0, OFFSET),
+            InFormat.parseToOffsetDateTime(zeile, 24, 44));
+        assertEquals(ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, OFFSET),
+            InFormat.parseToZonedDateTime(zeile, 24, 44));
+    }
+
+    @Test
+    public void parseBereichAusCharBuffer() {
+        CharBuffer puffer = CharBuffer.wrap("x1:23 +02:30x|1a 2M 3d|1h 2min 3s 4ms|1.8.2017 1:23 Europe/Berlin");
+
+        assertEquals(OffsetTime.of(1, 23, 0, 0, OFFSET), InFormat.parseToOffsetTime(puffer, 1, 12));
+        assertEquals(Period.of(1, 2, 3), InFormat.parseToPeriod(puffer, 14, 22));
+        assertEquals(Duration.ofHours(1).plusMinutes(2).plusSeconds(3).plusMillis(4),
+            InFormat.parseToDuration(puffer, 23, 37));
+        assertEquals(ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneId.of("Europe/Berlin")),
+            InFormat.parseToZonedDateTime(puffer, 38, 65));
+    }
+
+    @Test
+    public void parseBereichFehlerindexRelativZumBereich() {
+        try {
+            InFormat.parseToLocalDate("xx1.1.2017yy", 2, 12);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals("1.1.2017yy", e.getParsedString());
+            assertEquals(8, e.getErrorIndex());
+        }
+
+        try {
+            InFormat.parseToDuration("xx7h 6min xxx", 2, 13);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals("7h 6min xxx", e.getParsedString());
+            assertEquals(8, e.getErrorIndex());
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void parseBereichAusserhalbDesTextes() {
+        InFormat.parseToLocalDate("1.1.2017", 0, 9);
+    }
+}
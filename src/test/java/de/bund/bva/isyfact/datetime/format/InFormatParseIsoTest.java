@@ -0,0 +1,84 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Prüft, dass die ISO-Methoden von {@link InFormat} dieselben Ergebnisse und Fehler liefern wie die
+ * ISO-Formatter des JDK.
+ */
+@RunWith(Parameterized.class)
+public class InFormatParseIsoTest {
+
+    @Parameterized.Parameters(name = "{index}: {0}")
+    public static Collection<Object> data() {
+        return Arrays.asList("2017-08-01", "0000-01-01", "9999-12-31", "2016-02-29", "2017-02-29",
+            "2017-04-31", "2017-13-01", "2017-00-10", "2017-8-01", "+12017-08-01", "-0001-08-01", "20170-08-01",
+            "2017/08/01", "01:23", "01:23:45", "01:23:45.6", "01:23:45.123456789", "01:23:45.1234567890",
+            "24:00", "23:60", "23:59:60", "1:23", "01:23:45.", "2017-08-01T01:23", "2017-08-01t01:23:45.5",
+            "2017-08-01 01:23", "2017-08-01T24:00", "2017-02-30T01:23", "2017-08-01T01:23Z",
+            "2017-08-01T01:23:45.123z", "2017-08-01T01:23+02:00", "2017-08-01T01:23-18:00",
+            "2017-08-01T01:23+18:01", "2017-08-01T01:23+0200", "2017-08-01T01:23+02:00:30",
+            "2017-08-01T01:23+02:00[Europe/Berlin]", "", "1.8.2017", "1.8.2017 01:23", "1.8.2017 01:23 +02:00");
+    }
+
+    @Parameterized.Parameter
+    public String input;
+
+    @Test
+    public void parseIsoToLocalDate() {
+        assertGleich(LocalDate::parse, InFormat::parseIsoToLocalDate);
+    }
+
+    @Test
+    public void parseIsoToLocalTime() {
+        assertGleich(LocalTime::parse, InFormat::parseIsoToLocalTime);
+    }
+
+    @Test
+    public void parseIsoToLocalDateTime() {
+        assertGleich(LocalDateTime::parse, InFormat::parseIsoToLocalDateTime);
+    }
+
+    @Test
+    public void parseIsoToOffsetDateTime() {
+        assertGleich(OffsetDateTime::parse, InFormat::parseIsoToOffsetDateTime);
+    }
+
+    @Test
+    public void parseDeOderIso() {
+        if (input.matches("[+-]?[0-9]*-.*")) {
+            assertGleich(LocalDate::parse, InFormat::parseDeOderIsoToLocalDate);
+            assertGleich(LocalDateTime::parse, InFormat::parseDeOderIsoToLocalDateTime);
+            assertGleich(OffsetDateTime::parse, InFormat::parseDeOderIsoToOffsetDateTime);
+        } else {
+            assertGleich(InFormat::parseToLocalDate, InFormat::parseDeOderIsoToLocalDate);
+            assertGleich(InFormat::parseToLocalDateTime, InFormat::parseDeOderIsoToLocalDateTime);
+            assertGleich(InFormat::parseToOffsetDateTime, InFormat::parseDeOderIsoToOffsetDateTime);
+        }
+    }
+
+    private void assertGleich(Function<String, Object> erwartet, Function<String, Object> tatsaechlich) {
+        assertEquals(ergebnis(erwartet), ergebnis(tatsaechlich));
+    }
+
+    private Object ergebnis(Function<String, Object> parser) {
+        try {
+            return parser.apply(input);
+        } catch (DateTimeParseException e) {
+            return e.getMessage() + " @" + e.getErrorIndex();
+        }
+    }
+}
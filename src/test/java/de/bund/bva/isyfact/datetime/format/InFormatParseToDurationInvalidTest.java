@@ -24,7 +24,7 @@ public class InFormatParseToDurationInvalidTest {
         return Arrays.asList(
             new Object[][] { { "", 0 }, { "xxx", 0 }, { "xxx 7h 6min", 0 }, { "7h 6min xxx", 8 },
                 { "7h 5min xs", 8 }, { "7h -5min 4s", 3 }, { "4h 3min 2S", 8 }, { "4h3min2s", 0 },
-                { "7a 5h 6min", 0 } });
+                { "7a 5h 6min", 0 }, { "7h 5min 7h", 0 }, { "7h 5s 6s", 6 }, { " 3min 4h 3min", 1 } });
     }
 
     @Parameterized.Parameter
@@ -24,7 +24,8 @@ public class InFormatParseToDurationTest {
                 { "2s 1ms", Duration.ofSeconds(2).plusMillis(1) },
                 { "3min 2s 1ms", Duration.ofMinutes(3).plusSeconds(2).plusMillis(1) },
                 { "4h 3min 2s 1ms", D4H3M2S1MS }, { "  4h   3min  2s 1ms ", D4H3M2S1MS },
-                { "0h 0min 0s 0ms", Duration.ZERO }, });
+                { "0h 0min 0s 0ms", Duration.ZERO },
+                { "1ms 2s 3min 4h", D4H3M2S1MS }, { "4h\t3min\n2s 1ms", D4H3M2S1MS }, });
     }
 
     @Parameterized.Parameter
@@ -0,0 +1,41 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class InFormatParseToLocalDateInvalidTest {
+
+    @Parameterized.Parameters(name = "{index}: parseToLocalDate({0})")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+            new Object[][] { { "", 0 }, { "x.1.2017", 0 }, { "1-1-2017", 1 }, { "1.1.", 0 }, { "1.1.2017x", 8 },
+                { "1.1.2017 ", 8 }, { "0.1.2017", 0 }, { "32.1.2017", 0 }, { "1.0.2017", 0 },
+                { "1.13.2017", 0 } });
+    }
+
+    @Parameterized.Parameter
+    public String input;
+
+    @Parameterized.Parameter(1)
+    public long errorIndex;
+
+    @Test
+    public void parseToLocalDate() {
+        try {
+            InFormat.parseToLocalDate(input);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals(input, e.getParsedString());
+            assertEquals(errorIndex, e.getErrorIndex());
+        }
+    }
+}
@@ -19,7 +19,10 @@ public class InFormatParseToLocalDateTest {
             new Object[][] { { "1.1.1", LocalDate.of(1, 1, 1) }, { "1.1.11", LocalDate.of(11, 1, 1) },
                 { "1.1.111", LocalDate.of(111, 1, 1) }, { "1.1.1111", LocalDate.of(1111, 1, 1) },
                 { "01.01.1", LocalDate.of(1, 1, 1) }, { "01.01.11", LocalDate.of(11, 1, 1) },
-                { "01.01.111", LocalDate.of(111, 1, 1) }, { "01.01.1111", LocalDate.of(1111, 1, 1) } });
+                { "01.01.111", LocalDate.of(111, 1, 1) }, { "01.01.1111", LocalDate.of(1111, 1, 1) },
+                { "29.2.2016", LocalDate.of(2016, 2, 29) }, { "31.12.9999", LocalDate.of(9999, 12, 31) },
+                { "31.4.2017", LocalDate.of(2017, 4, 30) }, { "29.02.2017", LocalDate.of(2017, 2, 28) },
+                { "001.01.2017", LocalDate.of(2017, 1, 1) } });
     }
 
     @Parameterized.Parameter
@@ -0,0 +1,41 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class InFormatParseToLocalDateTimeInvalidTest {
+
+    @Parameterized.Parameters(name = "{index}: parseToLocalDateTime({0})")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+            new Object[][] { { "", 0 }, { "1.8.2017", 8 }, { "1.8.2017 ", 9 }, { "1.8.2017  1:23", 9 },
+                { "1.8.2017 1:23x", 13 }, { "1.8.2017 1:23 ", 13 }, { "1.8.2017 1:23 +2:30", 13 },
+                { "1.8.2017 1:23 Europe/Berlinx", 27 }, { "32.8.2017 1:23", 0 }, { "1.8.2017 1:60", 0 } });
+    }
+
+    @Parameterized.Parameter
+    public String input;
+
+    @Parameterized.Parameter(1)
+    public long errorIndex;
+
+    @Test
+    public void parseToLocalDateTime() {
+        try {
+            InFormat.parseToLocalDateTime(input);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals(input, e.getParsedString());
+            assertEquals(errorIndex, e.getErrorIndex());
+        }
+    }
+}
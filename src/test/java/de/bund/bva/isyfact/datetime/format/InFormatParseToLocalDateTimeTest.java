@@ -70,7 +70,9 @@ public class InFormatParseToLocalDateTimeTest {
             { "01.08.2017 01:23:45.123456", LocalDateTime.of(2017, 8, 1, 1, 23, 45, 123456000) },
             { "01.08.2017 01:23:45.123456789", LocalDateTime.of(2017, 8, 1, 1, 23, 45, 123456789) },
             { "01.08.2017 01:23 +02:30", LocalDateTime.of(2017, 8, 1, 1, 23, 0) },
-            { "01.08.2017 01:23 Europe/Berlin", LocalDateTime.of(2017, 8, 1, 1, 23, 0) } });
+            { "01.08.2017 01:23 Europe/Berlin", LocalDateTime.of(2017, 8, 1, 1, 23, 0) },
+            { "31.12.2017 24:00", LocalDateTime.of(2018, 1, 1, 0, 0, 0) },
+            { "31.4.2017 01:23", LocalDateTime.of(2017, 4, 30, 1, 23, 0) } });
     }
 
     @Parameterized.Parameter
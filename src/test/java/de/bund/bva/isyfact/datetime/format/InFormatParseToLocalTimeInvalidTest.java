@@ -0,0 +1,41 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class InFormatParseToLocalTimeInvalidTest {
+
+    @Parameterized.Parameters(name = "{index}: parseToLocalTime({0})")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(
+            new Object[][] { { "", 0 }, { "1", 1 }, { "1:2", 2 }, { "1:60", 0 }, { "1:23:60", 0 },
+                { "1:23:45.12", 7 }, { "1:23:45.1234", 11 }, { "123:45", 0 }, { "1:23 +2:30", 4 },
+                { "1:23:45.123 ", 11 } });
+    }
+
+    @Parameterized.Parameter
+    public String input;
+
+    @Parameterized.Parameter(1)
+    public long errorIndex;
+
+    @Test
+    public void parseToLocalTime() {
+        try {
+            InFormat.parseToLocalTime(input);
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals(input, e.getParsedString());
+            assertEquals(errorIndex, e.getErrorIndex());
+        }
+    }
+}
@@ -25,7 +25,9 @@ public class InFormatParseToLocalTimeTest {
                 { "01:23:45", LocalTime.of(1, 23, 45) },
                 { "01:23:45.123", LocalTime.of(1, 23, 45, 123000000) },
                 { "01:23:45.123456", LocalTime.of(1, 23, 45, 123456000) },
-                { "01:23:45.123456789", LocalTime.of(1, 23, 45, 123456789) } });
+                { "01:23:45.123456789", LocalTime.of(1, 23, 45, 123456789) }, { "0:00", LocalTime.MIDNIGHT },
+                { "24:00", LocalTime.MIDNIGHT }, { "23:59:59.999999999", LocalTime.MAX },
+                { "01:23 -05:00", LocalTime.of(1, 23) } });
     }
 
     @Parameter
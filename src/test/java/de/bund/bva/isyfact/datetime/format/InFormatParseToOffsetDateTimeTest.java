@@ -65,7 +65,8 @@ public class InFormatParseToOffsetDateTimeTest {
             { "01.08.2017 01:23:45 +02:30", OffsetDateTime.of(datum, zeitSek, zo) },
             { "01.08.2017 01:23:45.123 +02:30", OffsetDateTime.of(datum, zeitMilliSek, zo) },
             { "01.08.2017 01:23:45.123456 +02:30", OffsetDateTime.of(datum, zeitMikroSek, zo) },
-            { "01.08.2017 01:23:45.123456789 +02:30", OffsetDateTime.of(datum, zeitNanoSek, zo) } });
+            { "01.08.2017 01:23:45.123456789 +02:30", OffsetDateTime.of(datum, zeitNanoSek, zo) },
+            { "01.08.2017 01:23 -05:00", OffsetDateTime.of(datum, zeit, ZoneOffset.ofHours(-5)) } });
     }
 
     @Parameterized.Parameter
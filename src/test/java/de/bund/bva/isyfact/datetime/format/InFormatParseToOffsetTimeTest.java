@@ -27,7 +27,9 @@ public class InFormatParseToOffsetTimeTest {
             { "01:23:45 +02:30", OffsetTime.of(1, 23, 45, 0, zo) },
             { "01:23:45.123 +02:30", OffsetTime.of(1, 23, 45, 123000000, zo) },
             { "01:23:45.123456 +02:30", OffsetTime.of(1, 23, 45, 123456000, zo) },
-            { "01:23:45.123456789 +02:30", OffsetTime.of(1, 23, 45, 123456789, zo) } });
+            { "01:23:45.123456789 +02:30", OffsetTime.of(1, 23, 45, 123456789, zo) },
+            { "01:23 -05:00", OffsetTime.of(1, 23, 0, 0, ZoneOffset.ofHours(-5)) },
+            { "01:23 +00:00", OffsetTime.of(1, 23, 0, 0, ZoneOffset.UTC) } });
     }
 
     @Parameterized.Parameter
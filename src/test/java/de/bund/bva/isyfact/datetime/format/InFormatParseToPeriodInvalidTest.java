@@ -22,7 +22,8 @@ public class InFormatParseToPeriodInvalidTest {
     @Parameterized.Parameters(name = "{index}: parseToPeriod({0})")
     public static Collection<Object[]> data() {
         return Arrays.asList(new Object[][] { { "", 0 }, { "xxx", 0 }, { "xxx 7a 6M", 0 }, { "7a 6M xxx", 6 },
-            { "7a 5d xh", 6 }, { "7a -5d 4h", 3 }, { "4a 3M 2D", 6 }, { "4a3M2d", 0 }, { "7h 5a 6s", 0 } });
+            { "7a 5d xh", 6 }, { "7a -5d 4h", 3 }, { "4a 3M 2D", 6 }, { "4a3M2d", 0 }, { "7h 5a 6s", 0 },
+            { "1a 2M 2M", 3 }, { "1a 2M 1a", 0 } });
     }
 
     @Parameterized.Parameter
@@ -2,7 +2,9 @@ package de.bund.bva.isyfact.datetime.format;
 
 import static org.junit.Assert.assertEquals;
 
+import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collection;
@@ -26,7 +28,17 @@ public class InFormatParseToZonedDateTimeTest {
             { "01.8.2017 1:23 Europe/Berlin", expectedZonedDateTime },
             { "01.8.2017 01:23 Europe/Berlin", expectedZonedDateTime },
             { "01.08.2017 1:23 Europe/Berlin", expectedZonedDateTime },
-            { "01.08.2017 01:23 Europe/Berlin", expectedZonedDateTime } });
+            { "01.08.2017 01:23 Europe/Berlin", expectedZonedDateTime },
+            { "01.08.2017 01:23 +02:30",
+                ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneOffset.ofHoursMinutes(2, 30)) },
+            { "26.3.2017 2:30 Europe/Berlin",
+                ZonedDateTime.of(2017, 3, 26, 3, 30, 0, 0, ZoneId.of("Europe/Berlin")) },
+            { "29.10.2017 2:30 Europe/Berlin",
+                ZonedDateTime.ofLocal(LocalDateTime.of(2017, 10, 29, 2, 30), ZoneId.of("Europe/Berlin"),
+                    ZoneOffset.ofHours(2)) },
+            { "1.8.2017 1:23 America/Argentina/Buenos_Aires",
+                ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneId.of("America/Argentina/Buenos_Aires")) },
+            { "1.8.2017 1:23 UTC", ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneId.of("UTC")) } });
     }
 
     @Parameterized.Parameter
@@ -0,0 +1,100 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class InFormatTryParseTest {
+
+    private static final Function<String, Object> LOCAL_DATE = InFormat::parseToLocalDate;
+
+    private static final Function<String, Object> LOCAL_TIME = InFormat::parseToLocalTime;
+
+    private static final Function<String, Object> OFFSET_TIME = InFormat::parseToOffsetTime;
+
+    private static final Function<String, Object> LOCAL_DATE_TIME = InFormat::parseToLocalDateTime;
+
+    private static final Function<String, Object> OFFSET_DATE_TIME = InFormat::parseToOffsetDateTime;
+
+    private static final Function<String, Object> ZONED_DATE_TIME = InFormat::parseToZonedDateTime;
+
+    private static final Function<String, Object> PERIOD = InFormat::parseToPeriod;
+
+    private static final Function<String, Object> DURATION = InFormat::parseToDuration;
+
+    @Parameterized.Parameters(name = "{index}: {2}")
+    public static Collection<Object[]> data() {
+        return Arrays.asList(new Object[][] {
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "1.8.2017" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "31.4.2017" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "32.1.2017" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "1.13.2017" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "099.1.2017" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "1.1.2017x" },
+            { LOCAL_DATE, (Function<String, Optional<?>>) InFormat::tryParseToLocalDate, "" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "23:59:59.999" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "24:00" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "24:01" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "12:60" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "12:00 +25:00" },
+            { LOCAL_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalTime, "12:00 Europe/Berlin" },
+            { OFFSET_TIME, (Function<String, Optional<?>>) InFormat::tryParseToOffsetTime, "12:00 +02:00" },
+            { OFFSET_TIME, (Function<String, Optional<?>>) InFormat::tryParseToOffsetTime, "12:00" },
+            { LOCAL_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalDateTime,
+                "31.12.2017 24:00" },
+            { LOCAL_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToLocalDateTime,
+                "32.12.2017 12:00" },
+            { OFFSET_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToOffsetDateTime,
+                "1.8.2017 12:00 -05:00" },
+            { OFFSET_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToOffsetDateTime,
+                "1.8.2017 12:00" },
+            { ZONED_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToZonedDateTime,
+                "1.8.2017 12:00 Europe/Berlin" },
+            { ZONED_DATE_TIME, (Function<String, Optional<?>>) InFormat::tryParseToZonedDateTime,
+                "1.8.2017 12:00 Europe/Berlinx" },
+            { PERIOD, (Function<String, Optional<?>>) InFormat::tryParseToPeriod, "1a 2M 3d" },
+            { PERIOD, (Function<String, Optional<?>>) InFormat::tryParseToPeriod, "1a 2a" },
+            { PERIOD, (Function<String, Optional<?>>) InFormat::tryParseToPeriod, "1h" },
+            { DURATION, (Function<String, Optional<?>>) InFormat::tryParseToDuration, " 1h 2min 3s 4ms " },
+            { DURATION, (Function<String, Optional<?>>) InFormat::tryParseToDuration, "99999999999h" },
+            { DURATION, (Function<String, Optional<?>>) InFormat::tryParseToDuration, "   " } });
+    }
+
+    @Parameterized.Parameter
+    public Function<String, Object> parse;
+
+    @Parameterized.Parameter(1)
+    public Function<String, Optional<?>> tryParse;
+
+    @Parameterized.Parameter(2)
+    public String input;
+
+    @Test
+    public void tryParseEntsprichtParse() {
+        Object erwartet;
+        try {
+            erwartet = parse.apply(input);
+        } catch (DateTimeParseException | NumberFormatException e) {
+            assertFalse(tryParse.apply(input).isPresent());
+            return;
+        }
+        assertEquals(Optional.of(erwartet), tryParse.apply(input));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void tryParseNull() {
+        tryParse.apply(null);
+        fail();
+    }
+}
@@ -0,0 +1,155 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import de.bund.bva.isyfact.datetime.format.InkrementellerParser.Zustand;
+
+public class InkrementellerParserTest {
+
+    private static final Pattern DATUM = Pattern.compile("\\d{1,2}\\.\\d{1,2}\\.\\d{1,4}");
+
+    private static final Pattern ZEIT =
+        Pattern.compile("\\d{1,2}:\\d{2}(:\\d{2}(\\.(\\d{3}|\\d{6}|\\d{9}))?)?");
+
+    @Test
+    public void datum() {
+        InkrementellerParser parser = InkrementellerParser.fuerDatum();
+
+        assertEquals(Zustand.GUELTIG_BISHER, parser.getZustand());
+        assertEquals(Zustand.GUELTIG_BISHER, eingeben(parser, "31.0"));
+        assertEquals(Zustand.GUELTIG_BISHER, parser.zeichen('2'));
+        assertEquals(Zustand.GUELTIG_BISHER, parser.zeichen('.'));
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "2017"));
+        assertEquals(LocalDate.of(2017, 2, 28), parser.getDatum());
+        assertEquals(-1, parser.getFehlerposition());
+        assertEquals(10, parser.getLaenge());
+
+        assertEquals(Zustand.UNGUELTIG, parser.zeichen('1'));
+        assertEquals(10, parser.getFehlerposition());
+        assertEquals(Zustand.VOLLSTAENDIG, parser.zuruecknehmen());
+        assertEquals(Zustand.VOLLSTAENDIG, parser.zuruecknehmen());
+        assertEquals(LocalDate.of(201, 2, 28), parser.getDatum());
+    }
+
+    @Test
+    public void datumUngueltig() {
+        InkrementellerParser parser = InkrementellerParser.fuerDatum();
+
+        assertEquals(Zustand.UNGUELTIG, eingeben(parser, "1.13.2017"));
+        assertEquals(3, parser.getFehlerposition());
+        assertEquals(9, parser.getLaenge());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(Zustand.UNGUELTIG, parser.zuruecknehmen());
+        }
+        assertEquals(Zustand.GUELTIG_BISHER, parser.zuruecknehmen());
+        assertEquals(-1, parser.getFehlerposition());
+        assertEquals(Zustand.GUELTIG_BISHER, parser.zeichen('2'));
+
+        parser.zuruecksetzen();
+        assertEquals(Zustand.UNGUELTIG, eingeben(parser, "0."));
+        assertEquals(1, parser.getFehlerposition());
+    }
+
+    @Test
+    public void zeit() {
+        InkrementellerParser parser = InkrementellerParser.fuerZeit();
+
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "9:05"));
+        assertEquals(LocalTime.of(9, 5), parser.getZeit());
+        assertEquals(Zustand.GUELTIG_BISHER, eingeben(parser, ":3"));
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "0"));
+        assertEquals(Zustand.GUELTIG_BISHER, eingeben(parser, ".12"));
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "3"));
+        assertEquals(LocalTime.of(9, 5, 30, 123_000_000), parser.getZeit());
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "456789"));
+        assertEquals(LocalTime.of(9, 5, 30, 123_456_789), parser.getZeit());
+        assertEquals(Zustand.UNGUELTIG, parser.zeichen('0'));
+
+        parser.zuruecksetzen();
+        assertEquals(Zustand.VOLLSTAENDIG, eingeben(parser, "24:00"));
+        assertEquals(LocalTime.MIDNIGHT, parser.getZeit());
+        assertEquals(Zustand.UNGUELTIG, eingeben(parser, ":01"));
+        assertEquals(7, parser.getFehlerposition());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getDatumUnvollstaendig() {
+        InkrementellerParser parser = InkrementellerParser.fuerDatum();
+        eingeben(parser, "1.1.");
+        parser.getDatum();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void getDatumFuerZeit() {
+        InkrementellerParser parser = InkrementellerParser.fuerZeit();
+        eingeben(parser, "12:00");
+        parser.getDatum();
+    }
+
+    /**
+     * Prüft alle Eingaben bis zu einer Länge gegen {@link InFormat#tryParseToLocalDate(String)}.
+     */
+    @Test
+    public void datumWieInFormat() {
+        pruefeAlleEingaben(InkrementellerParser::fuerDatum, "01239.", 7, DATUM, InFormat::tryParseToLocalDate,
+            InkrementellerParser::getDatum);
+    }
+
+    /**
+     * Prüft alle Eingaben bis zu einer Länge gegen {@link InFormat#tryParseToLocalTime(String)}.
+     */
+    @Test
+    public void zeitWieInFormat() {
+        pruefeAlleEingaben(InkrementellerParser::fuerZeit, "02459:.", 7, ZEIT, InFormat::tryParseToLocalTime,
+            InkrementellerParser::getZeit);
+    }
+
+    private static <T> void pruefeAlleEingaben(Supplier<InkrementellerParser> erzeuger, String zeichen,
+        int maxLaenge, Pattern format, Function<String, Optional<T>> parse,
+        Function<InkrementellerParser, T> ergebnis) {
+        pruefe(erzeuger.get(), new StringBuilder(), zeichen, maxLaenge, format, parse, ergebnis, -1);
+    }
+
+    private static <T> void pruefe(InkrementellerParser parser, StringBuilder eingabe, String zeichen,
+        int maxLaenge, Pattern format, Function<String, Optional<T>> parse,
+        Function<InkrementellerParser, T> ergebnis, int fehlerposition) {
+        String text = eingabe.toString();
+        Optional<T> erwartet = parse.apply(text);
+        if (parser.getZustand() == Zustand.VOLLSTAENDIG) {
+            assertEquals(text, erwartet, Optional.of(ergebnis.apply(parser)));
+        } else {
+            assertTrue(text, !erwartet.isPresent() || !format.matcher(text).matches());
+        }
+        assertEquals(text, fehlerposition, parser.getFehlerposition());
+        assertEquals(text, text.length(), parser.getLaenge());
+
+        if (eingabe.length() < maxLaenge) {
+            for (int i = 0; i < zeichen.length(); i++) {
+                eingabe.append(zeichen.charAt(i));
+                parser.zeichen(zeichen.charAt(i));
+                int neueFehlerposition = fehlerposition < 0 && parser.getZustand() == Zustand.UNGUELTIG
+                    ? text.length() : fehlerposition;
+                pruefe(parser, eingabe, zeichen, maxLaenge, format, parse, ergebnis, neueFehlerposition);
+                parser.zuruecknehmen();
+                eingabe.setLength(text.length());
+            }
+        }
+    }
+
+    private static Zustand eingeben(InkrementellerParser parser, String text) {
+        for (int i = 0; i < text.length(); i++) {
+            parser.zeichen(text.charAt(i));
+        }
+        return parser.getZustand();
+    }
+}
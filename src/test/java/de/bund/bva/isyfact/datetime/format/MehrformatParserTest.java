@@ -0,0 +1,169 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+public class MehrformatParserTest {
+
+    private static final String[] TEXTE = { "1.8.2017", "01.08.2017", "1.8.17", "32.8.2017", "1.8.2017 12:00",
+        "1.8.2017 12:00:01.5", "1.8.2017 12:00 +02:00", "1.8.2017 12:00 Europe/Berlin", "1.8.2017 12:00 UTC",
+        "1.8.2017 12:00 MEZ", "1.8.2017 25:00", "12:00", "12:00:30", "12:00 +01:00", "12:00 Europe/Berlin",
+        "24:00", "", "x", "1.8.2017 12:00 +25:00", "01.08.2017 01:23 +05:00 Europe/Berlin",
+        "01.08.2017 01:23 +02:00 Europe/Berlin" };
+
+    /**
+     * Die Parse-Methoden von {@link InFormat} in der Reihenfolge, in der sie für das erwartete Ergebnis
+     * probiert werden.
+     */
+    private static final Map<Class<? extends Temporal>, Function<String, Optional<? extends Temporal>>>
+        METHODEN = new LinkedHashMap<>();
+
+    static {
+        METHODEN.put(OffsetDateTime.class, InFormat::tryParseToOffsetDateTime);
+        METHODEN.put(ZonedDateTime.class, InFormat::tryParseToZonedDateTime);
+        METHODEN.put(LocalDateTime.class, InFormat::tryParseToLocalDateTime);
+        METHODEN.put(LocalDate.class, InFormat::tryParseToLocalDate);
+        METHODEN.put(OffsetTime.class, InFormat::tryParseToOffsetTime);
+        METHODEN.put(LocalTime.class, InFormat::tryParseToLocalTime);
+    }
+
+    @Test
+    public void parseAny() {
+        MehrformatParser parser = new MehrformatParser(
+            new HashSet<>(Arrays.asList(LocalDate.class, LocalDateTime.class, ZonedDateTime.class)));
+
+        assertEquals(LocalDate.of(2017, 8, 1), parser.parseAny("1.8.2017"));
+        assertEquals(LocalDateTime.of(2017, 8, 1, 12, 0), parser.parseAny("1.8.2017 12:00"));
+        assertEquals(ZonedDateTime.of(2017, 8, 1, 12, 0, 0, 0, ZoneId.of("Europe/Berlin")),
+            parser.parseAny("1.8.2017 12:00 Europe/Berlin"));
+        assertFalse(parser.tryParseAny("12:00").isPresent());
+    }
+
+    @Test
+    public void reihenfolgeNachTreffern() {
+        MehrformatParser parser = new MehrformatParser(
+            new HashSet<>(Arrays.asList(LocalDate.class, LocalDateTime.class, ZonedDateTime.class)));
+        assertEquals(Arrays.asList(ZonedDateTime.class, LocalDateTime.class, LocalDate.class),
+            parser.getReihenfolge());
+
+        for (int i = 0; i < 10; i++) {
+            parser.parseAny("1.8.2017");
+        }
+        assertEquals(Arrays.asList(LocalDate.class, ZonedDateTime.class, LocalDateTime.class),
+            parser.getReihenfolge());
+        assertEquals(10, parser.getAnzahlTreffer(LocalDate.class));
+
+        for (int i = 0; i < 30; i++) {
+            parser.parseAny("1.8.2017 12:00");
+        }
+        assertEquals(Arrays.asList(LocalDateTime.class, LocalDate.class, ZonedDateTime.class),
+            parser.getReihenfolge());
+        assertEquals(30, parser.getAnzahlTreffer(LocalDateTime.class));
+        assertEquals(0, parser.getAnzahlTreffer(ZonedDateTime.class));
+        assertEquals(0, parser.getAnzahlTreffer(OffsetTime.class));
+    }
+
+    /**
+     * Das Ergebnis hängt nicht von der Reihenfolge ab, sondern ist immer der genaueste passende Zieltyp.
+     */
+    @Test
+    public void ergebnisUnabhaengigVonReihenfolge() {
+        List<Class<? extends Temporal>> klassen = new ArrayList<>(METHODEN.keySet());
+        for (int teilmenge = 1; teilmenge < 1 << klassen.size(); teilmenge++) {
+            Set<Class<? extends Temporal>> zieltypen = new HashSet<>();
+            for (int i = 0; i < klassen.size(); i++) {
+                if ((teilmenge & 1 << i) != 0) {
+                    zieltypen.add(klassen.get(i));
+                }
+            }
+
+            for (String training : TEXTE) {
+                MehrformatParser parser = new MehrformatParser(zieltypen);
+                for (int i = 0; i < 5; i++) {
+                    parser.tryParseAny(training);
+                }
+                for (String text : TEXTE) {
+                    assertEquals(zieltypen + " " + text, erwartet(zieltypen, text), parser.tryParseAny(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void zeitzoneOhneOffset() {
+        MehrformatParser parser =
+            new MehrformatParser(new HashSet<>(Arrays.asList(OffsetDateTime.class, ZonedDateTime.class)));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(ZonedDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneId.of("Europe/Berlin")),
+                parser.parseAny("01.08.2017 01:23 Europe/Berlin"));
+        }
+        assertEquals(OffsetDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneOffset.ofHours(5)),
+            parser.parseAny("01.08.2017 01:23 +05:00 Europe/Berlin"));
+        assertEquals(OffsetDateTime.of(2017, 8, 1, 1, 23, 0, 0, ZoneOffset.UTC),
+            parser.parseAny("01.08.2017 01:23 Z"));
+
+        assertEquals(3, parser.getAnzahlTreffer(ZonedDateTime.class));
+        assertEquals(2, parser.getAnzahlTreffer(OffsetDateTime.class));
+        assertEquals(Arrays.asList(ZonedDateTime.class, OffsetDateTime.class), parser.getReihenfolge());
+    }
+
+    @Test
+    public void parseAnyUngueltig() {
+        MehrformatParser parser = new MehrformatParser(new HashSet<>(Arrays.asList(LocalDate.class)));
+        try {
+            parser.parseAny("32.8.2017");
+            fail();
+        } catch (DateTimeParseException e) {
+            assertEquals("32.8.2017", e.getParsedString());
+            assertEquals(0, e.getErrorIndex());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void zieltypNichtUnterstuetzt() {
+        new MehrformatParser(new HashSet<>(Arrays.asList(LocalDate.class, java.time.Instant.class)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void ohneZieltypen() {
+        new MehrformatParser(new HashSet<>());
+    }
+
+    private static Optional<? extends Temporal> erwartet(Set<Class<? extends Temporal>> zieltypen,
+        String text) {
+        for (Map.Entry<Class<? extends Temporal>, Function<String, Optional<? extends Temporal>>> methode
+            : METHODEN.entrySet()) {
+            if (zieltypen.contains(methode.getKey())) {
+                Optional<? extends Temporal> ergebnis = methode.getValue().apply(text);
+                if (ergebnis.isPresent()) {
+                    return ergebnis;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,222 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Prüft, dass {@link OutFormat#format(DateTimeFormatter, TemporalAccessor)} und
+ * {@link OutFormat#formatTo(DateTimeFormatter, TemporalAccessor, Appendable)} sowie die Varianten für
+ * Byte-Arrays und {@link ByteBuffer} für alle Formate dasselbe Ergebnis liefern wie der
+ * {@link DateTimeFormatter}.
+ */
+@RunWith(Parameterized.class)
+public class OutFormatFormatTest {
+
+    private static final DateTimeFormatter[] FORMATE = { OutFormat.DATUM, OutFormat.ZEIT, OutFormat.ZEIT_KURZ,
+        OutFormat.DATUM_ZEIT, OutFormat.DATUM_ZEIT_ZONE, OutFormat.DATUM_ZEIT_LANG_TAG_ZONE,
+        OutFormat.DATUM_ZEIT_LANG_TAG, OutFormat.DATUM_ZEIT_LANG_ZONE, InFormat.DATUM_D_M_Y };
+
+    private static final LocalDateTime DATUM_ZEIT = LocalDateTime.of(2017, 7, 3, 9, 5, 7, 123_456_789);
+
+    private final TemporalAccessor wert;
+
+    public OutFormatFormatTest(TemporalAccessor wert) {
+        this.wert = wert;
+    }
+
+    @Parameterized.Parameters(name = "{0}")
+    public static Collection<Object[]> werte() {
+        List<TemporalAccessor> werte = new ArrayList<>(Arrays.asList(DATUM_ZEIT, DATUM_ZEIT.toLocalDate(),
+            DATUM_ZEIT.toLocalTime(), LocalDate.of(0, 1, 1), LocalDate.of(9999, 12, 31),
+            LocalDate.of(10000, 1, 1), LocalDate.of(-1, 12, 31), LocalTime.MIDNIGHT, LocalTime.MAX,
+            LocalDateTime.of(10, 10, 10, 10, 10), ZonedDateTime.of(DATUM_ZEIT, ZoneId.of("Europe/Berlin")),
+            ZonedDateTime.of(DATUM_ZEIT, ZoneOffset.UTC),
+            ZonedDateTime.of(DATUM_ZEIT, ZoneId.of("Asia/Kolkata")),
+            OffsetDateTime.of(DATUM_ZEIT, ZoneOffset.ofHoursMinutes(-3, -30)),
+            OffsetDateTime.of(DATUM_ZEIT, ZoneOffset.ofHoursMinutesSeconds(1, 0, 30)),
+            OffsetDateTime.of(DATUM_ZEIT, ZoneOffset.ofHours(-18)), OffsetTime.of(12, 0, 0, 0, ZoneOffset.UTC),
+            Instant.EPOCH, YearMonth.of(2017, 7)));
+        for (int monat = 1; monat <= 12; monat++) {
+            werte.add(
+                ZonedDateTime.of(DATUM_ZEIT.withMonth(monat).withDayOfMonth(monat), ZoneId.of("Europe/Berlin")));
+            werte.add(ZonedDateTime.of(DATUM_ZEIT.withMonth(monat), ZoneId.of("America/New_York")));
+        }
+        werte.add(ZonedDateTime.of(DATUM_ZEIT, ZoneId.of("UTC")));
+        werte.add(ZonedDateTime.of(DATUM_ZEIT, ZoneOffset.ofHours(2)));
+        List<Object[]> parameter = new ArrayList<>();
+        for (TemporalAccessor wert : werte) {
+            parameter.add(new Object[] { wert });
+        }
+        return parameter;
+    }
+
+    @Test
+    public void formatWieFormatter() {
+        for (DateTimeFormatter format : FORMATE) {
+            String erwartet;
+            try {
+                erwartet = format.format(wert);
+            } catch (DateTimeException e) {
+                try {
+                    OutFormat.format(format, wert);
+                    fail(format.toString());
+                } catch (DateTimeException f) {
+                    assertEquals(e.getClass(), f.getClass());
+                    assertEquals(e.getMessage(), f.getMessage());
+                }
+                continue;
+            }
+            assertEquals(format.toString(), erwartet, OutFormat.format(format, wert));
+        }
+    }
+
+    @Test
+    public void formatToWieFormatter() {
+        for (DateTimeFormatter format : FORMATE) {
+            StringBuilder erwartet = new StringBuilder("Wert: ");
+            StringBuilder tatsaechlich = new StringBuilder("Wert: ");
+            try {
+                format.formatTo(wert, erwartet);
+            } catch (DateTimeException e) {
+                try {
+                    OutFormat.formatTo(format, wert, tatsaechlich);
+                    fail(format.toString());
+                } catch (DateTimeException f) {
+                    assertEquals(e.getClass(), f.getClass());
+                    assertEquals(e.getMessage(), f.getMessage());
+                }
+                continue;
+            }
+            OutFormat.formatTo(format, wert, tatsaechlich);
+            assertEquals(format.toString(), erwartet.toString(), tatsaechlich.toString());
+        }
+    }
+
+    @Test
+    public void formatToBytesWieFormatter() {
+        for (DateTimeFormatter format : FORMATE) {
+            byte[] erwartet;
+            try {
+                erwartet = format.format(wert).getBytes(StandardCharsets.UTF_8);
+            } catch (DateTimeException e) {
+                try {
+                    OutFormat.formatTo(format, wert, new byte[64], 0);
+                    fail(format.toString());
+                } catch (DateTimeException f) {
+                    assertEquals(e.getMessage(), f.getMessage());
+                }
+                continue;
+            }
+
+            byte[] ziel = new byte[erwartet.length + 5];
+            assertEquals(erwartet.length, OutFormat.formatTo(format, wert, ziel, 3));
+            assertArrayEquals(format.toString(), erwartet, Arrays.copyOfRange(ziel, 3, 3 + erwartet.length));
+            assertEquals(0, ziel[2]);
+            assertEquals(0, ziel[3 + erwartet.length]);
+
+            for (ByteBuffer puffer : Arrays.asList(ByteBuffer.allocate(80), ByteBuffer.allocateDirect(80),
+                ByteBuffer.wrap(new byte[100], 7, 80).slice())) {
+                puffer.position(2);
+                assertEquals(erwartet.length, OutFormat.formatTo(format, wert, puffer));
+                assertEquals(2 + erwartet.length, puffer.position());
+                byte[] geschrieben = new byte[erwartet.length];
+                puffer.position(2);
+                puffer.get(geschrieben);
+                assertArrayEquals(format.toString(), erwartet, geschrieben);
+            }
+        }
+    }
+
+    @Test
+    public void formatToBytesZuKlein() {
+        for (DateTimeFormatter format : FORMATE) {
+            int laenge;
+            try {
+                laenge = format.format(wert).getBytes(StandardCharsets.UTF_8).length;
+            } catch (DateTimeException e) {
+                continue;
+            }
+
+            byte[] ziel = new byte[laenge + 1];
+            try {
+                OutFormat.formatTo(format, wert, ziel, 2);
+                fail(format.toString());
+            } catch (IndexOutOfBoundsException e) {
+                assertArrayEquals(new byte[laenge + 1], ziel);
+            }
+
+            ByteBuffer puffer = ByteBuffer.allocate(laenge - 1);
+            try {
+                OutFormat.formatTo(format, wert, puffer);
+                fail(format.toString());
+            } catch (BufferOverflowException e) {
+                assertEquals(0, puffer.position());
+            }
+        }
+    }
+
+    @Test
+    public void formatToIOException() {
+        for (DateTimeFormatter format : FORMATE) {
+            try {
+                format.format(wert);
+            } catch (DateTimeException e) {
+                continue;
+            }
+            try {
+                OutFormat.formatTo(format, wert, new FehlerhaftesZiel());
+                fail(format.toString());
+            } catch (DateTimeException e) {
+                assertEquals(IOException.class, e.getCause().getClass());
+            }
+        }
+    }
+
+    /**
+     * Ein Ziel, das beim Anhängen immer eine {@link IOException} wirft.
+     */
+    private static class FehlerhaftesZiel implements Appendable {
+
+        @Override
+        public Appendable append(CharSequence csq) throws IOException {
+            throw new IOException("Ziel nicht beschreibbar");
+        }
+
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) throws IOException {
+            throw new IOException("Ziel nicht beschreibbar");
+        }
+
+        @Override
+        public Appendable append(char c) throws IOException {
+            throw new IOException("Ziel nicht beschreibbar");
+        }
+    }
+}
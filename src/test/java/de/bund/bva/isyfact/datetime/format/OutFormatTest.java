@@ -4,6 +4,12 @@ import static org.junit.Assert.assertEquals;
 
 import java.time.Duration;
 import java.time.Period;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
 
@@ -36,4 +42,70 @@ public class OutFormatTest {
 
         assertEquals("", OutFormat.toDauerString(duration));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void toDauerStringDurationRundung() {
+        assertEquals("1s 1000ms", OutFormat.toDauerString(Duration.ofSeconds(1, 999_600_000)));
+        assertEquals("2ms", OutFormat.toDauerString(Duration.ofNanos(1_500_000)));
+        assertEquals("", OutFormat.toDauerString(Duration.ofNanos(499_999)));
+        assertEquals("500ms", OutFormat.toDauerString(Duration.ofMillis(-1500)));
+    }
+
+    @Test
+    public void formatDauerTo() {
+        StringBuilder ziel = new StringBuilder("Dauer: ");
+
+        OutFormat.formatDauerTo(Duration.ofMillis(3661001), ziel);
+        ziel.append(", ");
+        OutFormat.formatDauerTo(Period.of(2, 3, 5), ziel);
+
+        assertEquals("Dauer: 1h 1min 1s 1ms, 2a 3M 5d", ziel.toString());
+    }
+
+    /**
+     * Vergleicht mit der früheren Implementierung über Streams.
+     */
+    @Test
+    public void toDauerStringWieStreams() {
+        Random random = new Random(4711);
+        for (int i = 0; i < 100_000; i++) {
+            Duration duration = Duration.ofSeconds(random.nextInt(3) == 0 ? random.nextLong() :
+                random.nextInt(1_000_000) - 1000, random.nextInt(1_000_000_000));
+            pruefeWieStreams(duration);
+
+            Period period = Period.of(random.nextInt(200) - 20, random.nextInt(30) - 3, random.nextInt(70) - 7);
+            assertEquals(period.toString(), toDauerStringMitStreams(period), OutFormat.toDauerString(period));
+        }
+        for (Duration duration : new Duration[] { Duration.ofSeconds(Long.MAX_VALUE, 999_999_999),
+            Duration.ofSeconds(Long.MIN_VALUE), Duration.ofSeconds(59, 999_500_000) }) {
+            pruefeWieStreams(duration);
+        }
+        Period period = Period.of(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        assertEquals(toDauerStringMitStreams(period), OutFormat.toDauerString(period));
+    }
+
+    private static void pruefeWieStreams(Duration duration) {
+        assertEquals(duration.toString(), toDauerStringMitStreams(duration), OutFormat.toDauerString(duration));
+    }
+
+    private static String toDauerStringMitStreams(Period period) {
+        Map<TemporalUnit, String> abkuerzungen = Map.of(ChronoUnit.YEARS, "a", ChronoUnit.MONTHS, "M",
+            ChronoUnit.DAYS, "d");
+        return period.getUnits().stream().filter(unit -> period.get(unit) > 0)
+            .map(unit -> period.get(unit) + abkuerzungen.get(unit)).collect(Collectors.joining(" "));
+    }
+
+    private static String toDauerStringMitStreams(Duration duration) {
+        Map<String, Long> einzelwerte = new LinkedHashMap<>();
+        Long stunden = duration.toHours();
+        einzelwerte.put("h", stunden);
+        duration = duration.minusHours(stunden);
+        Long minuten = duration.toMinutes();
+        einzelwerte.put("min", minuten);
+        duration = duration.minusMinutes(minuten);
+        einzelwerte.put("s", duration.getSeconds());
+        einzelwerte.put("ms", Math.round(duration.getNano() / 1000000.0d));
+        return einzelwerte.entrySet().stream().filter(e -> e.getValue() > 0).map(e -> e.getValue() + e.getKey())
+            .collect(Collectors.joining(" "));
+    }
+}
@@ -0,0 +1,112 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import de.bund.bva.isyfact.datetime.core.UngewissesDatum;
+
+public class ParseCacheTest {
+
+    @Test
+    public void parse() {
+        ParseCache<LocalDate> cache = new ParseCache<>(InFormat::parseToLocalDate, 16);
+
+        LocalDate datum = cache.parse("01.01.1900");
+
+        assertEquals(LocalDate.of(1900, 1, 1), datum);
+        assertSame(datum, cache.parse("01.01.1900"));
+        assertSame(datum, cache.parse("01.01.1900"));
+        assertEquals(LocalDate.of(1900, 1, 1), cache.parse("1.1.1900"));
+        assertEquals(2, cache.getAnzahlTreffer());
+        assertEquals(2, cache.getAnzahlFehltreffer());
+    }
+
+    @Test
+    public void parseUngewissesDatum() {
+        ParseCache<UngewissesDatum> cache = new ParseCache<>(UngewissesDatum::parse, 16);
+
+        UngewissesDatum datum = cache.parse("xx.05.1966");
+
+        assertEquals(UngewissesDatum.of(1966, 5), datum);
+        assertSame(datum, cache.parse("xx.05.1966"));
+        assertEquals(1, cache.getAnzahlTreffer());
+    }
+
+    @Test
+    public void fehlerWerdenNichtGespeichert() {
+        ParseCache<LocalDate> cache = new ParseCache<>(InFormat::parseToLocalDate, 16);
+
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parse("32.01.1900");
+                fail();
+            } catch (DateTimeParseException e) {
+                assertEquals("32.01.1900", e.getParsedString());
+            }
+        }
+        assertEquals(0, cache.getAnzahlTreffer());
+        assertEquals(2, cache.getAnzahlFehltreffer());
+    }
+
+    @Test
+    public void verdraengen() {
+        ParseCache<LocalDate> cache = new ParseCache<>(InFormat::parseToLocalDate, 1);
+
+        LocalDate datum = cache.parse("01.01.1900");
+        cache.parse("02.01.1900");
+        cache.parse("01.01.1900");
+        cache.leeren();
+        cache.parse("01.01.1900");
+
+        assertEquals(LocalDate.of(1900, 1, 1), datum);
+        assertEquals(0, cache.getAnzahlTreffer());
+        assertEquals(4, cache.getAnzahlFehltreffer());
+    }
+
+    @Test
+    public void groesse() {
+        assertEquals(1, new ParseCache<>(InFormat::parseToLocalDate, 1).getGroesse());
+        assertEquals(4, new ParseCache<>(InFormat::parseToLocalDate, 3).getGroesse());
+        assertEquals(4096, new ParseCache<>(InFormat::parseToLocalDate, 4096).getGroesse());
+        assertEquals(8192, new ParseCache<>(InFormat::parseToLocalDate, 4097).getGroesse());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void groesseUngueltig() {
+        new ParseCache<>(InFormat::parseToLocalDate, 0);
+    }
+
+    @Test
+    public void parseParallel() {
+        ParseCache<ZonedDateTime> cache = new ParseCache<>(InFormat::parseToZonedDateTime, 64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        String text = (1 + i % 28) + ".1.2017 12:0" + i % 4 + " Europe/Berlin";
+                        assertEquals(InFormat.parseToZonedDateTime(text), cache.parse(text));
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40_000, cache.getAnzahlTreffer() + cache.getAnzahlFehltreffer());
+    }
+}
@@ -0,0 +1,145 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+public class SpaltenLeserTest {
+
+    private static final String CSV = "4711;1.8.2017;1h 30min;1.8.2017 12:00\r\n"
+        + "4712;32.8.2017;2d;\n"
+        + "\r"
+        + "4713;01.01.2018;1a 2M;31.12.2017 24:00";
+
+    @Test
+    public void lese() throws IOException {
+        List<String> ergebnisse = new ArrayList<>();
+
+        try (SpaltenLeser leser = new SpaltenLeser(new StringReader(CSV), ';')) {
+            leser.lese(zeile -> ergebnisse.add(zeile.getAnzahlSpalten() < 4 ? zeile.getNummer() + ":" + zeile
+                : zeile.getNummer() + ":" + zeile.tryParseToLocalDate(1).orElse(null) + ":"
+                    + zeile.tryParseToDuration(2).orElse(null) + ":" + zeile.tryParseToPeriod(2).orElse(null)));
+        }
+
+        assertEquals(Arrays.asList("1:2017-08-01:PT1H30M:null", "2:null:null:P2D", "3:",
+            "4:2018-01-01:null:P1Y2M"), ergebnisse);
+    }
+
+    @Test
+    public void leseSpalten() throws IOException {
+        List<Object> werte = new ArrayList<>();
+
+        try (SpaltenLeser leser = new SpaltenLeser(new StringReader(CSV + "\n"), ';')) {
+            leser.lese(zeile -> {
+                if (zeile.getAnzahlSpalten() == 4 && zeile.getNummer() != 2) {
+                    werte.add(zeile.getSpalte(0));
+                    werte.add(zeile.parseToLocalDate(1));
+                    werte.add(zeile.parseToLocalDateTime(3));
+                }
+            });
+        }
+
+        assertEquals(Arrays.asList("4711", LocalDate.of(2017, 8, 1), LocalDateTime.of(2017, 8, 1, 12, 0),
+            "4713", LocalDate.of(2018, 1, 1), LocalDateTime.of(2018, 1, 1, 0, 0)), werte);
+    }
+
+    @Test
+    public void parseFehlerindexRelativZurSpalte() throws IOException {
+        try (SpaltenLeser leser = new SpaltenLeser(new StringReader("x;1.8.2017x;1h 2x"), ';')) {
+            leser.lese(zeile -> {
+                try {
+                    zeile.parseToLocalDate(1);
+                    fail();
+                } catch (DateTimeParseException e) {
+                    assertEquals("1.8.2017x", e.getParsedString());
+                    assertEquals(8, e.getErrorIndex());
+                }
+                try {
+                    zeile.parseToDuration(2);
+                    fail();
+                } catch (DateTimeParseException e) {
+                    assertEquals("1h 2x", e.getParsedString());
+                    assertEquals(3, e.getErrorIndex());
+                }
+            });
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void spalteNichtVorhanden() throws IOException {
+        new SpaltenLeser(new StringReader("1.1.2017;2.1.2017"), ';').lese(zeile -> zeile.parseToLocalDate(2));
+    }
+
+    @Test
+    public void stream() {
+        boolean[] geschlossen = new boolean[1];
+        StringReader reader = new StringReader(CSV) {
+            @Override
+            public void close() {
+                geschlossen[0] = true;
+            }
+        };
+
+        List<Optional<Period>> perioden;
+        try (Stream<Optional<Period>> stream = new SpaltenLeser(reader, ';')
+            .stream(z -> z.getAnzahlSpalten() > 2 ? z.tryParseToPeriod(2) : Optional.empty())) {
+            perioden = stream.collect(Collectors.toList());
+        }
+
+        assertEquals(Arrays.asList(Optional.empty(), Optional.of(Period.ofDays(2)), Optional.empty(),
+            Optional.of(Period.of(1, 2, 0))), perioden);
+        assertTrue(geschlossen[0]);
+    }
+
+    @Test
+    public void langeZeilen() throws IOException {
+        String spalte = String.join("", Collections.nCopies(5000, "1.1.2017;"));
+        String text = spalte + "\n" + spalte;
+        List<Integer> anzahlSpalten = new ArrayList<>();
+
+        new SpaltenLeser(new StringReader(text), ';').lese(zeile -> {
+            anzahlSpalten.add(zeile.getAnzahlSpalten());
+            assertEquals(LocalDate.of(2017, 1, 1), zeile.parseToLocalDate(4999));
+            assertEquals("", zeile.getSpalte(5000));
+        });
+
+        assertEquals(Arrays.asList(5001, 5001), anzahlSpalten);
+    }
+
+    @Test
+    public void zeileZuLang() {
+        try {
+            new SpaltenLeser(new StringReader("1h;2h\n1h;2h;3h\n"), ';', 5).lese(zeile -> {
+                assertEquals(Duration.ofHours(2), zeile.parseToDuration(1));
+            });
+            fail();
+        } catch (IOException e) {
+            assertEquals("Zeile 2 ist länger als 5 Zeichen.", e.getMessage());
+        }
+    }
+
+    @Test
+    public void leereEingabe() throws IOException {
+        List<Object> zeilen = new ArrayList<>();
+        new SpaltenLeser(new StringReader(""), ';').lese(zeilen::add);
+        assertFalse(zeilen.iterator().hasNext());
+    }
+}
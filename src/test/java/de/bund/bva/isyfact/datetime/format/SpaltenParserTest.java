@@ -0,0 +1,130 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+public class SpaltenParserTest {
+
+    private static final byte OK = SpaltenParser.GUELTIG;
+
+    private static final byte FEHLER = SpaltenParser.UNGUELTIG;
+
+    private static final byte AUSSERHALB = SpaltenParser.AUSSERHALB_WERTEBEREICH;
+
+    @Test
+    public void parseToEpochDays() {
+        String[] texte = { "1.1.1970", "29.02.2016", "31.4.2017", "32.1.2017", null, "1.1.2017 x",
+            "1.1.99999999" };
+        byte[] status = new byte[texte.length];
+
+        int[] tage = SpaltenParser.parseToEpochDays(texte, status);
+
+        assertArrayEquals(new int[] { 0, (int) LocalDate.of(2016, 2, 29).toEpochDay(),
+            (int) LocalDate.of(2017, 4, 30).toEpochDay(), 0, 0, 0, 0 }, tage);
+        assertArrayEquals(new byte[] { OK, OK, OK, FEHLER, FEHLER, FEHLER, AUSSERHALB }, status);
+    }
+
+    @Test
+    public void parseToNanosOfDay() {
+        byte[] status = new byte[5];
+
+        long[] nanos = SpaltenParser.parseToNanosOfDay(
+            new LinkedList<>(Arrays.asList("0:00", "23:59:59.123456", "12:00 Europe/Berlin", "24:01", "")),
+            status);
+
+        assertArrayEquals(new long[] { 0, LocalTime.of(23, 59, 59, 123_456_000).toNanoOfDay(),
+            LocalTime.NOON.toNanoOfDay(), 0, 0 }, nanos);
+        assertArrayEquals(new byte[] { OK, OK, OK, FEHLER, FEHLER }, status);
+    }
+
+    @Test
+    public void parseToLocalEpochNanos() {
+        String[] texte = { "1.8.2017 1:23:45.678 +02:00", "31.12.2017 24:00", "1.1.1500 12:00", "1.1.2017" };
+        byte[] status = new byte[texte.length];
+
+        long[] nanos = SpaltenParser.parseToLocalEpochNanos(texte, status);
+
+        assertArrayEquals(new long[] { epochNanos(LocalDateTime.of(2017, 8, 1, 1, 23, 45, 678_000_000)),
+            epochNanos(LocalDateTime.of(2018, 1, 1, 0, 0)), 0, 0 }, nanos);
+        assertArrayEquals(new byte[] { OK, OK, AUSSERHALB, FEHLER }, status);
+    }
+
+    @Test
+    public void parseToEpochNanos() {
+        String[] texte = { "1.8.2017 1:23 +02:00", "1.8.2017 1:23 Europe/Berlin", "1.8.2017 1:23" };
+        byte[] status = new byte[texte.length];
+
+        long[] nanos = SpaltenParser.parseToEpochNanos(Arrays.asList(texte), status);
+
+        long erwartet = epochNanos(LocalDateTime.of(2017, 7, 31, 23, 23));
+        assertArrayEquals(new long[] { erwartet, erwartet, 0 }, nanos);
+        assertArrayEquals(new byte[] { OK, OK, FEHLER }, status);
+    }
+
+    @Test
+    public void parseParallelInEingabereihenfolge() throws Exception {
+        String[] daten = new String[100_000];
+        String[] datumZeiten = new String[daten.length];
+        for (int i = 0; i < daten.length; i++) {
+            LocalDateTime datumZeit = LocalDateTime.of(1900, 1, 1, 0, 0).plusMinutes(997L * i);
+            daten[i] = i % 1000 == 0 ? "ungültig" : OutFormat.DATUM.format(datumZeit);
+            datumZeiten[i] = OutFormat.DATUM_ZEIT.format(datumZeit) + " +01:00";
+        }
+
+        byte[] status = new byte[daten.length];
+        byte[] statusParallel = new byte[daten.length];
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            assertArrayEquals(SpaltenParser.parseToEpochDays(daten, status),
+                SpaltenParser.parseToEpochDays(daten, statusParallel, ForkJoinPool.commonPool()));
+            assertArrayEquals(status, statusParallel);
+
+            assertArrayEquals(SpaltenParser.parseToEpochNanos(datumZeiten, status),
+                SpaltenParser.parseToEpochNanos(Arrays.asList(datumZeiten), statusParallel, executor));
+            assertArrayEquals(status, statusParallel);
+
+            assertArrayEquals(SpaltenParser.parseToLocalEpochNanos(datumZeiten, status),
+                SpaltenParser.parseToLocalEpochNanos(datumZeiten, statusParallel, executor));
+            assertArrayEquals(status, statusParallel);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parseParallelKleineSpalteImAufrufendenThread() {
+        byte[] status = new byte[2];
+
+        long[] nanos = SpaltenParser.parseToNanosOfDay(new String[] { "1:00", "x" }, status, befehl -> {
+            throw new AssertionError("Kleine Spalten werden nicht verteilt.");
+        });
+
+        assertArrayEquals(new long[] { LocalTime.of(1, 0).toNanoOfDay(), 0 }, nanos);
+        assertArrayEquals(new byte[] { OK, FEHLER }, status);
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void parseParallelOhneExecutor() {
+        SpaltenParser.parseToEpochDays(new String[] { "1.1.2017" }, new byte[1], null);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void statusMitFalscherLaenge() {
+        SpaltenParser.parseToEpochDays(new String[] { "1.1.2017" }, new byte[2]);
+    }
+
+    private static long epochNanos(LocalDateTime datumZeit) {
+        return datumZeit.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + datumZeit.getNano();
+    }
+}
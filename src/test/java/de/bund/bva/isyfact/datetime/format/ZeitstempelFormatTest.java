@@ -0,0 +1,78 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.After;
+import org.junit.Test;
+
+import de.bund.bva.isyfact.datetime.test.TestClock;
+import de.bund.bva.isyfact.datetime.util.DateTimeUtil;
+
+public class ZeitstempelFormatTest {
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    @After
+    public void uhrZuruecksetzen() {
+        DateTimeUtil.setClock(Clock.systemDefaultZone());
+    }
+
+    @Test
+    public void jetztInDerselbenSekunde() {
+        TestClock uhr = TestClock.at(LocalDateTime.of(2017, 7, 3, 9, 5, 7, 100_000_000), BERLIN);
+        DateTimeUtil.setClock(uhr);
+        ZeitstempelFormat format = ZeitstempelFormat.fuerDatumZeit();
+
+        String zeitstempel = format.jetzt();
+        uhr.advanceBy(Duration.ofMillis(899));
+
+        assertEquals("03.07.2017 09:05:07", zeitstempel);
+        assertSame(zeitstempel, format.jetzt());
+        uhr.advanceBy(Duration.ofMillis(1));
+        assertEquals("03.07.2017 09:05:08", format.jetzt());
+    }
+
+    @Test
+    public void jetztWieOutFormat() {
+        TestClock uhr = TestClock.at(LocalDateTime.of(2017, 3, 25, 23, 58, 30), BERLIN);
+        DateTimeUtil.setClock(uhr);
+        ZeitstempelFormat datumZeit = ZeitstempelFormat.fuerDatumZeit();
+        ZeitstempelFormat datumZeitZone = ZeitstempelFormat.fuerDatumZeitZone();
+
+        // Über Mitternacht und die Umstellung auf Sommerzeit am 26.03.2017 um 02:00.
+        for (int i = 0; i < 3 * 3600; i += 7) {
+            pruefe(datumZeit, uhr);
+            pruefe(datumZeitZone, uhr);
+            uhr.advanceBy(Duration.ofMillis(7000));
+        }
+    }
+
+    @Test
+    public void jetztNachWechselDerUhr() {
+        ZeitstempelFormat format = ZeitstempelFormat.fuerDatumZeitZone();
+        TestClock berlin = TestClock.at(LocalDateTime.of(2017, 7, 3, 9, 5, 7), BERLIN);
+        DateTimeUtil.setClock(berlin);
+        assertEquals("03.07.2017 09:05:07 +02:00", format.jetzt());
+
+        DateTimeUtil.setClock(berlin.withZone(ZoneId.of("UTC")));
+        assertEquals("03.07.2017 07:05:07 +00:00", format.jetzt());
+
+        TestClock frueh = TestClock.at(LocalDateTime.of(1850, 1, 1, 0, 0), BERLIN);
+        DateTimeUtil.setClock(frueh);
+        pruefe(format, frueh);
+        frueh.advanceBy(Duration.ofSeconds(1));
+        pruefe(format, frueh);
+    }
+
+    private static void pruefe(ZeitstempelFormat format, Clock uhr) {
+        ZonedDateTime jetzt = ZonedDateTime.now(uhr);
+        assertEquals(jetzt.toString(), format.getFormat().format(jetzt), format.jetzt());
+    }
+}
@@ -0,0 +1,52 @@
+package de.bund.bva.isyfact.datetime.format;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import org.junit.Test;
+
+public class ZeitzonenTest {
+
+    private static final String DATUM_ZEIT_FORMAT =
+        "d[d].M[M].[u][uu][uuu][uuuu] H[H]:mm[:ss[.SSSSSSSSS][.SSSSSS][.SSS]][ xxx][ z]";
+
+    @Test
+    public void alleZeitzonenWieDateTimeFormatter() {
+        for (Locale locale : new Locale[] { Locale.GERMANY, Locale.US, Locale.ROOT }) {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DATUM_ZEIT_FORMAT, locale);
+            for (String id : ZoneId.getAvailableZoneIds()) {
+                String text = "29.10.2017 2:30 " + id;
+                if (Zeitzonen.suche(id, 0, id.length()) >= 0) {
+                    assertEquals(text, ZonedDateTime.parse(text, formatter),
+                        InFormat.parseToZonedDateTime(text));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void suche() {
+        String text = "12:00 Europe/Berlin";
+
+        int index = Zeitzonen.suche(text, 6, text.length());
+
+        assertEquals(ZoneId.of("Europe/Berlin"), Zeitzonen.zone(index));
+        assertEquals(-1, Zeitzonen.suche(text, 6, text.length() - 1));
+        assertEquals(-1, Zeitzonen.suche("europe/berlin", 0, 13));
+        assertEquals(-1, Zeitzonen.suche("CET", 0, 3));
+        assertEquals(-1, Zeitzonen.suche("Etc/GMT+1", 0, 9));
+    }
+
+    @Test
+    public void zeitMitZeitzone() {
+        assertEquals(LocalTime.NOON, InFormat.parseToLocalTime("12:00 Asia/Kolkata"));
+        assertNull(InFormat.tryParseToOffsetTime("12:00 Asia/Kolkata").orElse(null));
+        assertNull(InFormat.tryParseToOffsetDateTime("1.1.2017 12:00 Asia/Kolkata").orElse(null));
+    }
+}